@@ -0,0 +1,85 @@
+// 세션 시작 빠른 경로 before/after 지연 비교 (k6)
+//
+// 대상: POST /api/sessions/start  (이후 abandon 으로 활성 세션을 비워 다음 반복에서 다시 시작)
+//   - 이전: 일일 기록 조회/생성, 사용자 조회, 활성 세션 사전 조회, 태그 조회, 저장 후 재조회 (SQL 7~9개)
+//   - 이후: 일일 기록 UPSERT + 세션 INSERT (+ 태그 SELECT), SQL 수는 SessionStartStatementTest / query-budgets.txt
+//
+// 실행 방법 (같은 DB·같은 부하로 두 번 실행 후 결과 비교)
+//   1) 이전: git worktree add /tmp/before 2c1dcc7~1 && (cd /tmp/before && ./gradlew bootRun)
+//   2) 이후: ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=50 [-e TAGGED=true] loadtest/session-start.js
+//
+// VU마다 사용자를 따로 가입시킨다 (활성 세션은 사용자당 하나), TAGGED=true 면 사용자별 태그도 만든다
+// 비교 지표: start_duration p95/p99, 처리량(http_reqs{name:start}), 실패율, hikaricp.connections.pending
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+import exec from 'k6/execution';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 50);
+const TAGGED = __ENV.TAGGED === 'true';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+const startDuration = new Trend('start_duration', true);
+
+export const options = {
+    scenarios: {
+        start: {
+            executor: 'constant-vus',
+            exec: 'startAndAbandon',
+            vus: VUS,
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'start_duration': ['p(95)<200', 'p(99)<500'],
+    },
+};
+
+export function setup() {
+    const runId = Date.now().toString(36);
+    const users = [];
+    for (let i = 0; i < VUS; i++) {
+        const res = http.post(`${BASE_URL}/api/auth/signup`,
+            JSON.stringify({ email: `start-${runId}-${i}@loadtest.local`, password: 'loadtest1234', nickname: `s${runId}${i}` }),
+            { headers: JSON_HEADERS });
+        check(res, { 'signup ok': (r) => r.status === 200 });
+        const token = res.json('data.accessToken');
+
+        let tagId = null;
+        if (TAGGED) {
+            const tag = http.post(`${BASE_URL}/api/tags`,
+                JSON.stringify({ name: '부하', colorHex: '#FF6B6B' }),
+                { headers: { Authorization: `Bearer ${token}`, ...JSON_HEADERS } });
+            check(tag, { 'tag ok': (r) => r.status === 200 });
+            tagId = tag.json('data.id');
+        }
+        users.push({ token, tagId });
+    }
+    return { users };
+}
+
+function currentUser(data) {
+    return data.users[(exec.vu.idInTest - 1) % data.users.length];
+}
+
+export function startAndAbandon(data) {
+    const user = currentUser(data);
+    const params = { headers: { Authorization: `Bearer ${user.token}`, ...JSON_HEADERS } };
+    const body = user.tagId
+        ? JSON.stringify({ tagId: user.tagId, pledgeContent: '부하 테스트', targetMinutes: 30 })
+        : null;
+
+    const start = http.post(`${BASE_URL}/api/sessions/start`, body, { ...params, tags: { name: 'start' } });
+    check(start, { 'start 200': (r) => r.status === 200 });
+    startDuration.add(start.timings.duration);
+    if (start.status !== 200) {
+        return;
+    }
+
+    const abandon = http.post(`${BASE_URL}/api/sessions/${start.json('data.id')}/abandon`, null,
+        { ...params, tags: { name: 'abandon' } });
+    check(abandon, { 'abandon 200': (r) => r.status === 200 });
+}
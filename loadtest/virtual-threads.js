@@ -0,0 +1,64 @@
+// 플랫폼 스레드 vs 가상 스레드 부하 비교 (k6)
+//
+// 대상: AI 호출이 포함된 느린 경로
+//   - POST /api/dark-histories/{id}/regenerate  (OpenAI 호출, 수 초)
+//   - POST /api/daily/{date}/finalize           (JDBC 다수 + 리포트 AI 호출)
+//
+// 실행 방법 (같은 데이터로 두 번 실행 후 결과 비교)
+//   1) 플랫폼 스레드:  VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun
+//   2) 가상 스레드:    VIRTUAL_THREADS_ENABLED=true  ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=... -e PASSWORD=... \
+//          -e DARK_HISTORY_ID=<uuid> -e FINALIZE_DATE=2026-01-01 loadtest/virtual-threads.js
+//
+// 실제 OpenAI 과금/레이트리밋을 피하려면 spring.ai.openai.base-url 을 지연 응답 목 서버로 지정한다.
+// 비교 지표: http_req_duration p95/p99, 처리량(http_reqs), 실패율,
+//           /actuator/metrics 의 starlogue.ai.calls.rejected, starlogue.virtual-threads.pinned, hikaricp.connections.pending
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 200);
+
+export const options = {
+    scenarios: {
+        regenerate: {
+            executor: 'constant-vus',
+            exec: 'regenerate',
+            vus: VUS,
+            duration: __ENV.DURATION || '2m',
+        },
+        finalize: {
+            executor: 'constant-vus',
+            exec: 'finalize',
+            vus: Math.max(1, Math.floor(VUS / 4)),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'http_req_duration{scenario:regenerate}': ['p(95)<10000'],
+        'http_req_duration{scenario:finalize}': ['p(95)<10000'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'login ok': (r) => r.status === 200 });
+    return { token: res.json('data.accessToken') };
+}
+
+function authHeaders(data) {
+    return { headers: { Authorization: `Bearer ${data.token}`, 'Content-Type': 'application/json' } };
+}
+
+export function regenerate(data) {
+    const res = http.post(`${BASE_URL}/api/dark-histories/${__ENV.DARK_HISTORY_ID}/regenerate`, null, authHeaders(data));
+    check(res, { 'regenerate 200': (r) => r.status === 200 });
+}
+
+export function finalize(data) {
+    const res = http.post(`${BASE_URL}/api/daily/${__ENV.FINALIZE_DATE}/finalize`, null, authHeaders(data));
+    check(res, { 'finalize 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,95 @@
+package com.example.starlogue.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 경로 벤치마크
+ * - legacyTripleParse: 기존 방식 (validateToken / getUserId / getEmail 마다 파서 생성 + 서명 검증)
+ * - verifyUncached: 파서 재사용, 토큰당 1회 파싱 (캐시보다 훨씬 많은 토큰을 돌려가며 검증 → 대부분 캐시 미스)
+ * - verifyCached / filterCached: 검증 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "starlogueSecretKeyForJwtAuthenticationMustBe256BitsLong";
+    private static final int ROTATING_TOKENS = 4096;
+
+    private SecretKey secretKey;
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private String[] rotatingTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        cachedProvider = new JwtTokenProvider(SECRET, 3_600_000, 10_000);
+        uncachedProvider = new JwtTokenProvider(SECRET, 3_600_000, 16);
+        filter = new JwtAuthenticationFilter(cachedProvider);
+        token = cachedProvider.createAccessToken(UUID.randomUUID(), "bench@starlogue.dev");
+        rotatingTokens = new String[ROTATING_TOKENS];
+        for (int i = 0; i < ROTATING_TOKENS; i++) {
+            rotatingTokens[i] = cachedProvider.createAccessToken(UUID.randomUUID(), "bench" + i + "@starlogue.dev");
+        }
+    }
+
+    @Benchmark
+    public Object legacyTripleParse() {
+        parseClaims(token);
+        UUID userId = UUID.fromString(parseClaims(token).getSubject());
+        String email = parseClaims(token).get("email", String.class);
+        return new JwtPrincipal(userId, email, null);
+    }
+
+    @Benchmark
+    public Object verifyUncached() {
+        next = (next + 1) % ROTATING_TOKENS;
+        return uncachedProvider.verify(rotatingTokens[next]);
+    }
+
+    @Benchmark
+    public Object verifyCached() {
+        return cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    private Claims parseClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
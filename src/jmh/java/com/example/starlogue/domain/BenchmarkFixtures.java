@@ -0,0 +1,96 @@
+package com.example.starlogue.domain;
+
+import com.example.starlogue.domain.enums.AuthProvider;
+import com.example.starlogue.domain.enums.StopReason;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 엔티티 (DB 없이 id / 시각만 채운 상태)
+ * - 세션은 측정 루프 안에서도 만들므로 필드 조회는 한 번만, id는 SecureRandom 없이 순번으로
+ */
+public final class BenchmarkFixtures {
+
+    private static final Field ID = field(AbstractEntity.class, "id");
+    private static final Field STARTED_AT = field(StudySession.class, "startedAt");
+    private static final Field ENDED_AT = field(StudySession.class, "endedAt");
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user() {
+        User user = User.builder()
+                .email("bench@starlogue.dev")
+                .nickname("bench")
+                .authProvider(AuthProvider.LOCAL)
+                .password("{noop}bench")
+                .build();
+        return withId(user);
+    }
+
+    public static Tag tag(User user) {
+        return withId(Tag.builder()
+                .user(user)
+                .name("수학")
+                .colorHex("#FF6B6B")
+                .icon("📐")
+                .build());
+    }
+
+    /**
+     * 시작 시각을 지정한 진행 중 세션
+     */
+    public static StudySession session(User user, Tag tag, LocalDateTime startedAt) {
+        StudySession session = withId(StudySession.builder()
+                .user(user)
+                .tag(tag)
+                .pledge(Pledge.builder().content("2시간 집중").targetMinutes(60).maxStopCount(3).build())
+                .build());
+        ReflectionUtils.setField(STARTED_AT, session, startedAt);
+        return session;
+    }
+
+    /**
+     * 하루치 종료된 세션 (시간순, 세션마다 중단 2번)
+     */
+    public static List<StudySession> endedSessions(User user, Tag tag, LocalDate date, int count) {
+        List<StudySession> sessions = new ArrayList<>(count);
+        LocalDateTime startedAt = date.atTime(6, 0);
+        for (int i = 0; i < count; i++) {
+            StudySession session = session(user, tag, startedAt);
+            LocalDateTime at = startedAt;
+            for (int stop = 0; stop < 2; stop++) {
+                at = at.plusMinutes(25);
+                session.updateFocusGauge(25 * 60, at);
+                StopEvent event = session.stop(StopReason.REST, 5, at);
+                at = at.plusMinutes(stop == 0 ? 4 : 7);
+                session.resume(event, at);
+            }
+            session.updateFocusGauge(20 * 60, at.plusMinutes(20));
+            session.end();
+            ReflectionUtils.setField(ENDED_AT, session, at.plusMinutes(20));
+            sessions.add(session);
+            startedAt = at.plusMinutes(30);
+        }
+        return sessions;
+    }
+
+    private static <T extends AbstractEntity> T withId(T entity) {
+        ReflectionUtils.setField(ID, entity, new UUID(0x0190_0000_0000_7000L, SEQUENCE.incrementAndGet()));
+        return entity;
+    }
+
+    private static Field field(Class<?> type, String name) {
+        Field field = ReflectionUtils.findField(type, name);
+        ReflectionUtils.makeAccessible(field);
+        return field;
+    }
+}
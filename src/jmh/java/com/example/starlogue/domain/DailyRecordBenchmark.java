@@ -0,0 +1,50 @@
+package com.example.starlogue.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일일 기록 세션 반영 벤치마크 (집계 + MVP 구간 병합 + 별 속성)
+ * - 하루 8개 세션을 시간순으로 반영 → 1회당 시간
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DailyRecordBenchmark {
+
+    private static final int SESSIONS_PER_DAY = 8;
+
+    private User user;
+    private LocalDate date;
+    private List<StudySession> sessions;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        date = LocalDate.now();
+        sessions = BenchmarkFixtures.endedSessions(user, BenchmarkFixtures.tag(user), date, SESSIONS_PER_DAY);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SESSIONS_PER_DAY)
+    public Object addSessionResult() {
+        DailyRecord record = DailyRecord.builder()
+                .user(user)
+                .recordDate(date)
+                .build();
+        for (StudySession session : sessions) {
+            record.addSessionResult(session);
+        }
+        return record;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.starlogue.domain;
+
+import com.example.starlogue.domain.enums.SatireLevel;
+import com.example.starlogue.domain.enums.StopReason;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 흑역사 풍자 강도 계산 벤치마크
+ * - brokenPromiseSeverity: 재개된 중단 이벤트의 약속 어김 정도
+ * - determineSatireLevel: 어김 횟수 / 최대 severity → 풍자 레벨 (입력을 돌려가며 분기 예측 고정 방지)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SatireBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private StopEvent brokenStop;
+    private int[] brokenCounts;
+    private double[] severities;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime stoppedAt = LocalDateTime.now().minusMinutes(20);
+        brokenStop = StopEvent.builder()
+                .reason(StopReason.DISTRACTION)
+                .expectedMinutes(5)
+                .stoppedAt(stoppedAt)
+                .build();
+        brokenStop.resume(stoppedAt.plusMinutes(12));
+
+        brokenCounts = new int[INPUTS];
+        severities = new double[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            brokenCounts[i] = (i * 7) % 5;
+            severities[i] = ((i * 13) % 150) / 100.0;
+        }
+    }
+
+    @Benchmark
+    public double brokenPromiseSeverity() {
+        return brokenStop.getBrokenPromiseSeverity();
+    }
+
+    @Benchmark
+    public SatireLevel determineSatireLevel() {
+        next = (next + 1) & (INPUTS - 1);
+        return SatireLevel.determine(brokenCounts[next], severities[next]);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.starlogue.domain;
+
+import com.example.starlogue.domain.enums.StopReason;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 상태 전이 벤치마크
+ * - 세션은 상태 전이마다 도메인 이벤트를 쌓으므로 호출마다 새 세션을 만든다 (같은 세션을 계속 쓰면 이벤트 목록이 끝없이 커짐)
+ * - newSession: 생성 비용 기준선 (다른 결과에서 빼서 읽는다)
+ * - updateFocusGauge: 하트비트 60회 / 세션 → 1회당 시간
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StudySessionBenchmark {
+
+    private static final int HEARTBEATS = 60;
+
+    private User user;
+    private Tag tag;
+    private LocalDateTime startedAt;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        tag = BenchmarkFixtures.tag(user);
+        startedAt = LocalDateTime.now().minusHours(2);
+    }
+
+    @Benchmark
+    public Object newSession() {
+        return BenchmarkFixtures.session(user, tag, startedAt);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HEARTBEATS)
+    public Object updateFocusGauge() {
+        StudySession session = BenchmarkFixtures.session(user, tag, startedAt);
+        LocalDateTime at = startedAt;
+        for (int i = 0; i < HEARTBEATS; i++) {
+            at = at.plusSeconds(10);
+            session.updateFocusGauge(10, at);
+        }
+        return session;
+    }
+
+    @Benchmark
+    public Object stop() {
+        StudySession session = BenchmarkFixtures.session(user, tag, startedAt);
+        return session.stop(StopReason.BATHROOM, 5, startedAt.plusMinutes(30));
+    }
+
+    @Benchmark
+    public Object stopAndResume() {
+        StudySession session = BenchmarkFixtures.session(user, tag, startedAt);
+        StopEvent event = session.stop(StopReason.REST, 5, startedAt.plusMinutes(30));
+        session.resume(event, startedAt.plusMinutes(37));  // 약속 어김 (+2분)
+        return session;
+    }
+
+    @Benchmark
+    public Object end() {
+        StudySession session = BenchmarkFixtures.session(user, tag, startedAt);
+        session.end();
+        return session;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.starlogue.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 id 생성 벤치마크 (UUID v7)
+ * - randomUuidV4: 비교 기준 (JDK SecureRandom 기반)
+ * - generateContended: 여러 스레드가 동시에 INSERT하는 상황 (생성기 내부 동기화 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidV7GeneratorBenchmark {
+
+    private final UuidV7Generator generator = new UuidV7Generator();
+
+    @Benchmark
+    public Object generate() {
+        return generator.generate(null, null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object generateContended() {
+        return generator.generate(null, null);
+    }
+
+    @Benchmark
+    public UUID randomUuidV4() {
+        return UUID.randomUUID();
+    }
+}
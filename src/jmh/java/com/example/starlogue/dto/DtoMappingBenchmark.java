@@ -0,0 +1,91 @@
+package com.example.starlogue.dto;
+
+import com.example.starlogue.controller.response.ApiResponse;
+import com.example.starlogue.domain.BenchmarkFixtures;
+import com.example.starlogue.domain.DailyRecord;
+import com.example.starlogue.domain.StudySession;
+import com.example.starlogue.domain.User;
+import com.example.starlogue.dto.DailyDto.GalaxyNodeResponse;
+import com.example.starlogue.dto.SessionDto.SessionResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 변환 / 직렬화 벤치마크
+ * - sessionResponseFrom / galaxyNodeResponseFrom: 엔티티 → DTO
+ * - serializeSession: ApiResponse<SessionResponse> JSON 직렬화 (세션 API 응답 1건)
+ * - serializeGalaxy: 30일 은하수 노드 목록 변환 + 직렬화 (GET /api/daily/galaxy/recent)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private static final int GALAXY_DAYS = 30;
+
+    private ObjectMapper objectMapper;
+    private StudySession session;
+    private DailyRecord record;
+    private List<DailyRecord> galaxy;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 ObjectMapper와 같은 설정 (JavaTimeModule, 날짜는 ISO 문자열)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        User user = BenchmarkFixtures.user();
+        LocalDate today = LocalDate.now();
+        session = BenchmarkFixtures.endedSessions(user, BenchmarkFixtures.tag(user), today, 1).get(0);
+
+        galaxy = new ArrayList<>(GALAXY_DAYS);
+        for (int day = GALAXY_DAYS - 1; day >= 0; day--) {
+            LocalDate date = today.minusDays(day);
+            DailyRecord daily = DailyRecord.builder().user(user).recordDate(date).build();
+            for (StudySession ended : BenchmarkFixtures.endedSessions(user, null, date, 2)) {
+                daily.addSessionResult(ended);
+            }
+            daily.finalize(GALAXY_DAYS - day);
+            galaxy.add(daily);
+        }
+        record = galaxy.get(GALAXY_DAYS - 1);
+    }
+
+    @Benchmark
+    public Object sessionResponseFrom() {
+        return SessionResponse.from(session);
+    }
+
+    @Benchmark
+    public Object galaxyNodeResponseFrom() {
+        return GalaxyNodeResponse.from(record);
+    }
+
+    @Benchmark
+    public byte[] serializeSession() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.ok(SessionResponse.from(session)));
+    }
+
+    @Benchmark
+    public byte[] serializeGalaxy() throws JsonProcessingException {
+        List<GalaxyNodeResponse> nodes = galaxy.stream()
+                .map(GalaxyNodeResponse::from)
+                .toList();
+        return objectMapper.writeValueAsBytes(ApiResponse.ok(nodes));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.starlogue.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 어노테이션으로 표현할 수 없는 인덱스 생성 (부분 유니크 인덱스 등)
+ * - ddl-auto(update)로 테이블이 만들어진 뒤 실행되도록 EntityManagerFactory 이후에 초기화
+ * - 생성에 실패하면 기동을 중단한다 (세션 중복 시작 방지 등 정합성이 이 인덱스에 의존)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class DatabaseIndexInitializer implements InitializingBean {
+
+    /**
+     * 사용자당 활성 세션(진행 중 / 일시 중단)은 1개만 허용
+     */
+    public static final String ACTIVE_SESSION_INDEX = "uk_session_user_active";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatabaseIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        createIndex(ACTIVE_SESSION_INDEX,
+                "CREATE UNIQUE INDEX IF NOT EXISTS " + ACTIVE_SESSION_INDEX + " " +
+                        "ON study_sessions (user_id) WHERE status IN ('IN_PROGRESS', 'PAUSED')");
+    }
+
+    private void createIndex(String name, String ddl) {
+        try {
+            jdbcTemplate.execute(ddl);
+            log.info("인덱스 확인 완료 - {}", name);
+        } catch (DataAccessException e) {
+            // 기존 데이터가 제약을 위반하면 생성 실패 → 데이터 정리 후 재기동
+            throw new IllegalStateException("인덱스 생성 실패 - " + name + ": " + e.getMostSpecificCause().getMessage(), e);
+        }
+    }
+}
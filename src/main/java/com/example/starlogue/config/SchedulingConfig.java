@@ -1,17 +1,32 @@
 package com.example.starlogue.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
 
+    /**
+     * 유예 타이머 / 주기 작업 스케줄러
+     * - 가상 스레드 모드: 트리거는 스케줄러 스레드 하나가 관리하고 작업은 매번 가상 스레드에서 실행 (고정 풀 없음)
+     * - 플랫폼 스레드 모드: 고정 풀
+     */
     @Bean
-    public TaskScheduler taskScheduler() {
+    public TaskScheduler taskScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setVirtualThreads(true);
+            scheduler.setThreadNamePrefix("grace-period-");
+            scheduler.setTaskTerminationTimeout(30_000);
+            return scheduler;
+        }
+
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
         scheduler.setPoolSize(5);
         scheduler.setThreadNamePrefix("grace-period-");
@@ -1,7 +1,9 @@
 package com.example.starlogue.config;
 
 import com.example.starlogue.config.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,6 +27,9 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Value("${management.server.port:${server.port:8080}}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -35,6 +40,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/**").permitAll()
                         .requestMatchers("/ws/**").permitAll()  // WebSocket 엔드포인트
                         .requestMatchers("/error").permitAll()
+                        .requestMatchers(this::isManagementPort).permitAll()  // 헬스 체크 / 메트릭 스크레이프 (내부 포트만)
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -59,4 +65,9 @@ public class SecurityConfig {
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
+
+    // 액추에이터 전용 포트로 들어온 요청 (health / info / prometheus 만 노출됨)
+    private boolean isManagementPort(HttpServletRequest request) {
+        return request.getLocalPort() == managementPort;
+    }
 }
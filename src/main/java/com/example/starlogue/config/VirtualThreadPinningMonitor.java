@@ -0,0 +1,102 @@
+package com.example.starlogue.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감지 (가상 스레드 모드에서만)
+ * - synchronized 블록 안에서 블로킹(JDBC/락 대기 등)하면 캐리어 스레드까지 묶인다 (JDK 21)
+ * - JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아 횟수/시간을 기록하고
+ *   고정이 일어난 위치(스택)는 위치별로 한 번만 로그에 남긴다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_LOCATIONS = 1000;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Counter pinnedCount;
+    private final Timer pinnedDuration;
+    private final Set<String> loggedLocations = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${starlogue.threads.pinning-threshold-ms:20}") long thresholdMs,
+            MeterRegistry meterRegistry) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+        this.pinnedCount = Counter.builder("starlogue.virtual-threads.pinned")
+                .description("임계 시간 이상 캐리어 스레드에 고정된 가상 스레드 수")
+                .register(meterRegistry);
+        this.pinnedDuration = Timer.builder("starlogue.virtual-threads.pinned.duration")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감지 시작 - threshold: {}ms", threshold.toMillis());
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    // === Private Methods ===
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        pinnedDuration.record(event.getDuration());
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String location = frames.isEmpty() ? "unknown" : describe(frames.get(0));
+
+        // 같은 위치는 한 번만 (로그 폭주 방지)
+        if (loggedLocations.size() < MAX_LOGGED_LOCATIONS && loggedLocations.add(location)) {
+            String stack = frames.stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(frame -> "\tat " + describe(frame))
+                    .collect(Collectors.joining("\n"));
+            log.warn("가상 스레드 고정 감지 - {}ms, thread: {}\n{}",
+                    event.getDuration().toMillis(),
+                    event.getThread() != null ? event.getThread().getJavaName() : "?",
+                    stack);
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
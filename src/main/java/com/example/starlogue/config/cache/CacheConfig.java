@@ -0,0 +1,40 @@
+package com.example.starlogue.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 참조 데이터(태그 / 사용자 프로필) 근거리 캐시
+ * - 노드마다 Caffeine 캐시, 엔티티 대신 불변 스냅샷을 담는다
+ * - 트랜잭션 안의 put/evict는 커밋 이후에 적용 (커밋 전 값이 다시 캐시되는 것 방지)
+ * - 다른 노드의 캐시는 CacheInvalidator가 NOTIFY로 무효화
+ * - 적중/미스는 actuator가 cache.gets{result=hit|miss} 로 캐시별 기록 (recordStats)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${starlogue.cache.max-entries:50000}") long maxEntries,
+            @Value("${starlogue.cache.ttl-minutes:10}") long ttlMinutes) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        for (String name : CacheNames.ALL) {
+            cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                    .maximumSize(maxEntries)
+                    .expireAfterWrite(Duration.ofMinutes(ttlMinutes))  // 무효화 메시지를 놓쳐도 이 시간 안에 수렴
+                    .recordStats()
+                    .build());
+        }
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.starlogue.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 다른 노드의 캐시 무효화 수신 (PostgreSQL LISTEN)
+ * - 풀 커넥션을 계속 점유하지 않도록 전용 커넥션 하나를 따로 연다
+ * - 연결이 끊기면 재연결하고, 끊긴 동안 놓친 메시지 대신 캐시를 전부 비운다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "starlogue.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationListener implements InitializingBean, DisposableBean {
+
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidator cacheInvalidator;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public CacheInvalidationListener(DataSourceProperties dataSourceProperties, CacheInvalidator cacheInvalidator) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.cacheInvalidator = cacheInvalidator;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        listenerThread = Thread.ofPlatform()
+                .name("cache-invalidation-listener")
+                .daemon()
+                .start(this::run);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread.join(POLL_TIMEOUT_MS * 2L);
+        }
+    }
+
+    // === Private Methods ===
+
+    private void run() {
+        while (running) {
+            try {
+                listen();
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("캐시 무효화 채널 연결 끊김 - {}ms 후 재연결: {}", RECONNECT_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CacheInvalidator.CHANNEL);
+            }
+            cacheInvalidator.clearAll();
+            log.info("캐시 무효화 채널 구독 시작 - channel: {}", CacheInvalidator.CHANNEL);
+
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            while (running) {
+                PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                if (notifications == null) {
+                    continue;
+                }
+                for (PGNotification notification : notifications) {
+                    cacheInvalidator.onRemoteInvalidation(notification.getParameter());
+                }
+            }
+        }
+    }
+}
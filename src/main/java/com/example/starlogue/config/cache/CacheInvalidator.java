@@ -0,0 +1,102 @@
+package com.example.starlogue.config.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 참조 데이터 캐시 무효화
+ * - 로컬: 트랜잭션 안이면 커밋 후에 제거 (TransactionAwareCacheManagerProxy)
+ * - 다른 노드: 같은 트랜잭션에서 pg_notify → PostgreSQL이 커밋될 때만 전달 (롤백되면 전달 안 됨)
+ *   수신은 CacheInvalidationListener
+ */
+@Slf4j
+@Component
+public class CacheInvalidator {
+
+    static final String CHANNEL = "starlogue_cache_invalidation";
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager cacheManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean broadcast;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidator(CacheManager cacheManager,
+                            JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${starlogue.cache.invalidation.enabled:true}") boolean broadcast) {
+        this.cacheManager = cacheManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.broadcast = broadcast;
+    }
+
+    /**
+     * 이 노드와 다른 노드의 캐시 항목 제거
+     */
+    public void evict(String cacheName, UUID key) {
+        evictLocal(cacheName, key, "local");
+        if (broadcast) {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                    CHANNEL, String.join(SEPARATOR, nodeId, cacheName, key.toString()));
+        }
+    }
+
+    /**
+     * 이 노드의 캐시 항목만 제거 (다른 노드에 알릴 필요 없는 근사값 갱신용)
+     */
+    public void evictLocal(String cacheName, UUID key) {
+        evictLocal(cacheName, key, "local");
+    }
+
+    // === 수신 (CacheInvalidationListener) ===
+
+    /**
+     * 다른 노드에서 온 무효화 메시지 처리 (자기 자신이 보낸 메시지는 이미 처리됨)
+     */
+    void onRemoteInvalidation(String payload) {
+        String[] parts = payload.split("\\" + SEPARATOR, 3);
+        if (parts.length != 3) {
+            log.warn("잘못된 캐시 무효화 메시지 - payload: {}", payload);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            evictLocal(parts[1], UUID.fromString(parts[2]), "remote");
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 캐시 무효화 메시지 - payload: {}", payload);
+        }
+    }
+
+    /**
+     * 전체 비우기 (무효화 채널 재연결 시 - 끊긴 동안의 메시지는 받을 수 없으므로)
+     */
+    void clearAll() {
+        for (String name : CacheNames.ALL) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private void evictLocal(String cacheName, UUID key, String origin) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        cache.evict(key);
+        meterRegistry.counter("starlogue.cache.invalidations", "cache", cacheName, "origin", origin).increment();
+    }
+}
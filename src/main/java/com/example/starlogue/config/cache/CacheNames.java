@@ -0,0 +1,18 @@
+package com.example.starlogue.config.cache;
+
+import java.util.List;
+
+/**
+ * 참조 데이터 캐시 이름 (키는 모두 UUID)
+ */
+public final class CacheNames {
+
+    public static final String TAGS = "tags";                    // tagId → TagSnapshot
+    public static final String ACTIVE_TAGS = "activeTags";       // userId → 활성 태그 목록
+    public static final String USER_PROFILES = "userProfiles";   // userId → UserProfile
+
+    static final List<String> ALL = List.of(TAGS, ACTIVE_TAGS, USER_PROFILES);
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.starlogue.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 워크로드별 커넥션 풀
+ * - OLTP(사용자 요청) / BATCH / ANALYTICS 풀을 분리해서 오래 걸리는 작업이 요청 트래픽의 커넥션을 뺏지 않게 한다
+ * - 풀 선택은 @WorkloadPool → WorkloadContext → WorkloadRoutingDataSource
+ * - 풀 설정: OLTP는 spring.datasource.hikari, 나머지는 starlogue.datasource.workloads.{batch,analytics}
+ * - 복제본이 켜져 있으면 읽기 전용 트랜잭션은 복제본으로 (ReplicaDataSourceConfig)
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource oltpDataSource(DataSourceProperties properties) {
+        return pool(properties, "oltp");
+    }
+
+    @Bean
+    @ConfigurationProperties("starlogue.datasource.workloads.batch")
+    public HikariDataSource batchDataSource(DataSourceProperties properties) {
+        return pool(properties, "batch");
+    }
+
+    @Bean
+    @ConfigurationProperties("starlogue.datasource.workloads.analytics")
+    public HikariDataSource analyticsDataSource(DataSourceProperties properties) {
+        return pool(properties, "analytics");
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("oltpDataSource") DataSource oltpDataSource,
+            @Qualifier("batchDataSource") DataSource batchDataSource,
+            @Qualifier("analyticsDataSource") DataSource analyticsDataSource,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+            ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        DataSource primary = new WorkloadRoutingDataSource(Map.of(
+                Workload.OLTP, oltpDataSource,
+                Workload.BATCH, batchDataSource,
+                Workload.ANALYTICS, analyticsDataSource));
+
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica != null) {
+            return ReplicaDataSourceConfig.readWriteSplitting(
+                    primary, replica, replicaLagMonitor.getObject(), readYourWritesTracker.getObject());
+        }
+        // 워크로드 지정(@WorkloadPool)이 @Transactional 보다 늦게 적용돼도 첫 쿼리 시점의 풀을 쓰도록 지연 획득
+        return new LazyConnectionDataSourceProxy(primary);
+    }
+
+    /**
+     * 풀 포화도 (사용 중 / 최대) - 대기 시간은 hikaricp.connections.acquire / pending 으로 풀별 기록됨
+     */
+    @Bean
+    public MeterBinder connectionPoolSaturationMetrics(List<HikariDataSource> pools) {
+        return registry -> pools.forEach(pool ->
+                Gauge.builder("starlogue.datasource.pool.saturation", pool, DataSourceConfig::saturation)
+                        .tag("pool", pool.getPoolName())
+                        .description("사용 중인 커넥션 / 최대 커넥션")
+                        .register(registry));
+    }
+
+    // === Private Methods ===
+
+    private static HikariDataSource pool(DataSourceProperties properties, String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null || pool.getMaximumPoolSize() == 0) {
+            return 0;
+        }
+        return (double) mxBean.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+}
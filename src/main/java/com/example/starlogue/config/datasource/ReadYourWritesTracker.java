@@ -0,0 +1,73 @@
+package com.example.starlogue.config.datasource;
+
+import com.example.starlogue.config.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 내가 쓴 것은 바로 읽히도록 (read-your-writes)
+ * - 사용자가 쓰기 트랜잭션을 실행하면 일정 시간 동안 그 사용자의 읽기는 primary로 보낸다
+ * - 쓰기 커넥션을 잡을 때 한 번, 커밋 직후 한 번 기록 (긴 트랜잭션도 커밋 시점부터 창이 시작)
+ * - 사용자는 현재 스레드의 인증 정보로 판단 (인증 없는 배치 작업은 대상 아님)
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<UUID, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    /**
+     * 현재 사용자의 쓰기 기록
+     */
+    public void recordWrite() {
+        UUID userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+        recentWriters.put(userId, Boolean.TRUE);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(userId, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    /**
+     * 현재 사용자가 최근에 썼는지 (→ primary에서 읽어야 함)
+     */
+    public boolean isCurrentUserRecentWriter() {
+        UUID userId = currentUserId();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        if (principal instanceof UUID userId) {
+            return userId;  // STOMP CONNECT 인증
+        }
+        return null;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.starlogue.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 라우팅 (starlogue.datasource.replica.enabled=true 일 때만)
+ * - 쓰기 / 일반 트랜잭션 → primary (워크로드별 풀)
+ * - @Transactional(readOnly = true) → replica (지연 초과 또는 방금 쓴 사용자면 primary)
+ * - LazyConnectionDataSourceProxy: 트랜잭션의 readOnly 여부가 정해진 뒤 첫 쿼리 시점에 실제 커넥션을 고른다
+ * - replica.url 을 primary와 같게 두면 DB 하나를 두 풀로 나눠 로컬에서 확인할 수 있다
+ */
+@Configuration
+@ConditionalOnProperty(name = "starlogue.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${starlogue.datasource.replica.url}") String url,
+            @Value("${starlogue.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${starlogue.datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${starlogue.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${starlogue.datasource.replica.max-lag-ms:2000}") long maxLagMs,
+            MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, maxLagMs, meterRegistry);
+        monitor.check();  // 첫 측정 전에는 primary로 읽도록 시작 시 바로 측정
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${starlogue.datasource.replica.read-your-writes-window-ms:5000}") long windowMs,
+            @Value("${starlogue.datasource.replica.read-your-writes-max-users:100000}") long maxUsers) {
+        return new ReadYourWritesTracker(Duration.ofMillis(windowMs), maxUsers);
+    }
+
+    /**
+     * 읽기/쓰기 분리 프록시 (쓰기는 primary, 읽기 전용은 복제본 라우팅)
+     */
+    public static DataSource readWriteSplitting(DataSource primary, DataSource replica,
+                                                ReplicaLagMonitor lagMonitor,
+                                                ReadYourWritesTracker readYourWritesTracker) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(
+                new WriteTrackingDataSource(primary, readYourWritesTracker));
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(
+                primary, replica, lagMonitor, readYourWritesTracker));
+        return proxy;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.starlogue.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 복제 지연 감시
+ * - 복제본에서 마지막으로 반영한 트랜잭션 시각과 현재 시각의 차이로 지연을 잰다
+ * - 받은 WAL을 모두 반영했으면(primary에 새 쓰기가 없음) 지연 0
+ * - 복제본이 아닌 인스턴스(같은 DB를 두 풀로 쓰는 경우)는 항상 0
+ * - 측정 실패 / 허용치 초과 시 읽기 트랜잭션도 primary로 보낸다
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+                    "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+                    "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMs;
+
+    private volatile long lagMs = -1;  // -1: 측정 실패
+    private volatile boolean healthy;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagMs, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagMs = maxLagMs;
+        Gauge.builder("starlogue.datasource.replica.lag", this, monitor -> monitor.lagMs)
+                .description("복제 지연 (ms, -1이면 측정 실패)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("starlogue.datasource.replica.healthy", this, monitor -> monitor.healthy ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${starlogue.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean wasHealthy = healthy;
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Number.class);
+            lagMs = lag != null ? lag.longValue() : 0;
+            healthy = lagMs <= maxLagMs;
+        } catch (DataAccessException e) {
+            lagMs = -1;
+            healthy = false;
+        }
+
+        if (wasHealthy != healthy) {
+            if (healthy) {
+                log.info("복제본 읽기 재개 - lag: {}ms", lagMs);
+            } else {
+                log.warn("복제본 읽기 중단 (primary로 전환) - lag: {}ms, max: {}ms", lagMs, maxLagMs);
+            }
+        }
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+}
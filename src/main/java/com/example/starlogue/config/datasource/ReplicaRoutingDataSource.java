@@ -0,0 +1,36 @@
+package com.example.starlogue.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 커넥션의 대상 선택 (replica / primary)
+ * - LazyConnectionDataSourceProxy 의 readOnlyDataSource 로 쓰인다 → 읽기 전용 트랜잭션에서만 호출
+ * - 복제본이 지연되었거나, 현재 사용자가 방금 썼으면 primary
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        initialize();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!lagMonitor.isHealthy() || readYourWritesTracker.isCurrentUserRecentWriter()) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.starlogue.config.datasource;
+
+/**
+ * 커넥션 풀 분리 단위
+ */
+public enum Workload {
+    OLTP,       // 사용자 요청 (세션 명령, 하트비트, 화면 조회) - 기본값
+    BATCH,      // 일괄 정산, 가져오기, 주기적 반영, 리더보드 재적재
+    ANALYTICS   // 통계, 내보내기 등 오래 걸리는 조회
+}
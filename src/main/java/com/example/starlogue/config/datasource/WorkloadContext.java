@@ -0,0 +1,34 @@
+package com.example.starlogue.config.datasource;
+
+/**
+ * 현재 스레드의 워크로드 (커넥션 풀 라우팅 키)
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.OLTP;
+    }
+
+    /**
+     * 워크로드 지정 (이전 값 반환 → restore 로 되돌린다)
+     */
+    static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.starlogue.config.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드(또는 클래스 전체)가 사용할 커넥션 풀 지정
+ * - 이미 커넥션을 잡은 트랜잭션 안에서 호출되면 바깥 트랜잭션의 풀을 그대로 쓴다
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface WorkloadPool {
+
+    Workload value();
+}
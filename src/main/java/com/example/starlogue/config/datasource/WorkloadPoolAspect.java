@@ -0,0 +1,40 @@
+package com.example.starlogue.config.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @WorkloadPool 이 붙은 메서드 실행 동안 워크로드 지정
+ * - @Transactional 보다 바깥에서 실행 (실제 커넥션은 LazyConnectionDataSourceProxy 가 첫 쿼리 때 꺼낸다)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadPoolAspect {
+
+    @Around("@annotation(com.example.starlogue.config.datasource.WorkloadPool) " +
+            "|| @within(com.example.starlogue.config.datasource.WorkloadPool)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        WorkloadPool pool = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), WorkloadPool.class);
+        if (pool == null) {
+            pool = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), WorkloadPool.class);
+        }
+        if (pool == null) {
+            return joinPoint.proceed();
+        }
+
+        Workload previous = WorkloadContext.enter(pool.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+}
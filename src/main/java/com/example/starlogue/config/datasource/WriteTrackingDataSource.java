@@ -0,0 +1,28 @@
+package com.example.starlogue.config.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * primary 쓰기 커넥션을 꺼낼 때 현재 사용자의 쓰기를 기록
+ * - LazyConnectionDataSourceProxy 뒤에 있으므로 실제 쿼리가 나갈 때만 호출된다 (읽기 전용은 readOnlyDataSource 로)
+ */
+public class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public WriteTrackingDataSource(DataSource primary, ReadYourWritesTracker readYourWritesTracker) {
+        super(primary);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        readYourWritesTracker.recordWrite();
+        return connection;
+    }
+}
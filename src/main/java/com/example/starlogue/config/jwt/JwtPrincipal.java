@@ -0,0 +1,18 @@
+package com.example.starlogue.config.jwt;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 검증된 액세스 토큰의 내용 (불변)
+ */
+public record JwtPrincipal(
+        UUID userId,
+        String email,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
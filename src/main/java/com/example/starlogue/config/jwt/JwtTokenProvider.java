@@ -1,7 +1,11 @@
 package com.example.starlogue.config.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,20 +13,43 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * 액세스 토큰 발급 / 검증
+ * - 파서는 한 번만 만들어 재사용 (스레드 안전)
+ * - 토큰당 서명 검증은 한 번: 검증된 결과를 토큰 해시(SHA-256) 기준으로 만료 시각까지 캐시
+ * - 실패한 토큰은 캐시하지 않는다 (위조 토큰으로 캐시를 채울 수 없음)
+ */
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
     private final long accessTokenValidityMs;
+    private final JwtParser parser;
+    private final Cache<String, JwtPrincipal> verifiedTokens;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.access-token-validity-ms:3600000}") long accessTokenValidityMs) {
+            @Value("${jwt.access-token-validity-ms:3600000}") long accessTokenValidityMs,
+            @Value("${jwt.verified-cache.max-entries:10000}") long verifiedCacheMaxEntries) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidityMs = accessTokenValidityMs;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxEntries)
+                .expireAfter(Expiry.<String, JwtPrincipal>creating((key, principal) ->
+                        Duration.between(Instant.now(), principal.expiresAt())))
+                .build();
     }
 
     public String createAccessToken(UUID userId, String email) {
@@ -38,30 +65,56 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public UUID getUserId(String token) {
-        Claims claims = parseClaims(token);
-        return UUID.fromString(claims.getSubject());
-    }
+    /**
+     * 토큰 검증 (유효하지 않거나 만료되면 empty)
+     */
+    public Optional<JwtPrincipal> verify(String token) {
+        String key = hash(token);
+        Instant now = Instant.now();
 
-    public String getEmail(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("email", String.class);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(key);
+            return Optional.empty();
+        }
+
+        JwtPrincipal principal = parse(token);
+        if (principal == null || principal.isExpired(now)) {
+            return Optional.empty();
+        }
+        verifiedTokens.put(key, principal);
+        return Optional.of(principal);
     }
 
-    public boolean validateToken(String token) {
+    // === Private Methods ===
+
+    /**
+     * 서명 검증 + 클레임 추출 (한 번만 파싱)
+     */
+    private JwtPrincipal parse(String token) {
         try {
-            parseClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                return null;
+            }
+            return new JwtPrincipal(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.example.starlogue.config.websocket;
 
+import com.example.starlogue.config.jwt.JwtPrincipal;
 import com.example.starlogue.config.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,9 +32,11 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
         if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
             String token = extractToken(accessor);
 
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                UUID userId = jwtTokenProvider.getUserId(token);
-                String email = jwtTokenProvider.getEmail(token);
+            JwtPrincipal principal = StringUtils.hasText(token) ? jwtTokenProvider.verify(token).orElse(null) : null;
+
+            if (principal != null) {
+                UUID userId = principal.userId();
+                String email = principal.email();
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userId, email, Collections.emptyList());
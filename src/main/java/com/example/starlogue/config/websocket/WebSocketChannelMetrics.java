@@ -0,0 +1,48 @@
+package com.example.starlogue.config.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * STOMP 인바운드/아웃바운드 채널 실행기 대기열 깊이 / 처리 중 스레드 수
+ * - 플랫폼 스레드 모드(고정 풀)에서만 대기열이 있다. 가상 스레드 모드는 메시지마다 스레드를 만들어 대기열이 없음
+ */
+@Component
+public class WebSocketChannelMetrics implements MeterBinder {
+
+    private final Executor inboundExecutor;
+    private final Executor outboundExecutor;
+
+    public WebSocketChannelMetrics(@Qualifier("clientInboundChannelExecutor") Executor inboundExecutor,
+                                   @Qualifier("clientOutboundChannelExecutor") Executor outboundExecutor) {
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "inbound", inboundExecutor);
+        bind(registry, "outbound", outboundExecutor);
+    }
+
+    private static void bind(MeterRegistry registry, String channel, Executor executor) {
+        if (!(executor instanceof ThreadPoolTaskExecutor pool)) {
+            return;
+        }
+        Gauge.builder("starlogue.websocket.channel.queued", pool,
+                        p -> p.getThreadPoolExecutor().getQueue().size())
+                .description("채널 실행기 대기열에 쌓인 메시지 수")
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("starlogue.websocket.channel.active", pool, ThreadPoolTaskExecutor::getActiveCount)
+                .description("메시지를 처리 중인 채널 스레드 수")
+                .tag("channel", channel)
+                .register(registry);
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.starlogue.config.websocket;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -10,10 +11,16 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker
-@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final boolean virtualThreads;
+
+    public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.virtualThreads = virtualThreads;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -23,10 +30,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setApplicationDestinationPrefixes("/app");
         // 특정 사용자에게 메시지 보낼 때 prefix
         registry.setUserDestinationPrefix("/user");
+        // 가상 스레드 모드에서는 채널 실행기가 무제한이므로 세션별 전송 순서를 명시적으로 보장
+        registry.setPreservePublishOrder(virtualThreads);
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.setPreserveReceiveOrder(virtualThreads);  // 세션별 수신 순서 보장 (하트비트/중단/재개 순서)
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();  // SockJS fallback 지원
@@ -35,5 +45,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompAuthChannelInterceptor);
+        if (virtualThreads) {
+            // 메시지 처리 중 JDBC 대기가 고정 풀 스레드를 묶지 않도록 메시지마다 가상 스레드
+            registration.executor(new VirtualThreadTaskExecutor("stomp-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-outbound-"));
+        }
     }
 }
@@ -4,11 +4,11 @@ import com.example.starlogue.config.CustomUserDetails;
 import com.example.starlogue.controller.response.ApiResponse;
 import com.example.starlogue.domain.DailyRecord;
 import com.example.starlogue.domain.HighlightReport;
-import com.example.starlogue.domain.User;
 import com.example.starlogue.domain.enums.RecordType;
 import com.example.starlogue.dto.DailyDto;
 import com.example.starlogue.service.DailyRecordService;
 import com.example.starlogue.service.StudyFacadeService;
+import com.example.starlogue.service.UserProfile;
 import com.example.starlogue.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,6 +22,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import static com.example.starlogue.dto.CursorDto.CursorResponse;
 import static com.example.starlogue.dto.DailyDto.*;
 import static com.example.starlogue.service.StudyFacadeService.*;
 
@@ -57,7 +58,7 @@ public class DailyRecordController {
     ) {
         UUID userId = userDetails.getUserId();
         List<DailyRecord> records = dailyRecordService.getGalaxyView(userId, startDate, endDate);
-        User user = userService.getUser(userId);
+        UserProfile profile = userService.getUserProfile(userId);
 
         List<GalaxyNodeResponse> nodes = records.stream()
                 .map(GalaxyNodeResponse::from)
@@ -82,7 +83,7 @@ public class DailyRecordController {
                 totalStars,
                 totalBlackHoles,
                 totalMinutes,
-                user.getCurrentStreak()
+                profile.currentStreak()
         );
 
         return ApiResponse.ok(response);
@@ -163,6 +164,23 @@ public class DailyRecordController {
         return ApiResponse.ok(records);
     }
 
+    /**
+     * 일일 기록 히스토리 (커서 기반)
+     * GET /api/daily/history/cursor?cursor=...&size=30
+     */
+    @GetMapping("/history/cursor")
+    public ApiResponse<CursorResponse<DailyRecordResponse>> getHistoryByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size
+    ) {
+        UUID userId = userDetails.getUserId();
+        CursorResponse<DailyRecordResponse> records = dailyRecordService
+                .getRecordHistory(userId, cursor, Math.clamp(size, 1, 100))
+                .map(DailyRecordResponse::from);
+        return ApiResponse.ok(records);
+    }
+
     // === 하이라이트 리포트 ===
 
     /**
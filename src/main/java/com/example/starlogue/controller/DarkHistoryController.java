@@ -6,6 +6,7 @@ import com.example.starlogue.domain.DarkHistory;
 import com.example.starlogue.domain.enums.SatireLevel;
 import com.example.starlogue.dto.DarkHistoryDto;
 import com.example.starlogue.service.DarkHistoryService;
+import com.example.starlogue.service.PublicDarkHistoryFeedService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.UUID;
 
+import static com.example.starlogue.dto.CursorDto.CursorResponse;
 import static com.example.starlogue.dto.DarkHistoryDto.*;
 
 /**
@@ -35,6 +37,7 @@ import static com.example.starlogue.dto.DarkHistoryDto.*;
 public class DarkHistoryController {
 
     private final DarkHistoryService darkHistoryService;
+    private final PublicDarkHistoryFeedService publicFeedService;
 
     // === 내 흑역사 조회 ===
 
@@ -69,6 +72,23 @@ public class DarkHistoryController {
         return ApiResponse.ok(page);
     }
 
+    /**
+     * 내 흑역사 목록 (커서 기반)
+     * GET /api/dark-histories/paged/cursor?cursor=...&size=10
+     */
+    @GetMapping("/paged/cursor")
+    public ApiResponse<CursorResponse<DarkHistoryListItem>> getMyDarkHistoriesByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        UUID userId = userDetails.getUserId();
+        CursorResponse<DarkHistoryListItem> list = darkHistoryService
+                .getDarkHistoryHistory(userId, cursor, Math.clamp(size, 1, 100))
+                .map(DarkHistoryListItem::from);
+        return ApiResponse.ok(list);
+    }
+
     /**
      * 미확인 흑역사 목록
      * GET /api/dark-histories/unacknowledged
@@ -96,7 +116,7 @@ public class DarkHistoryController {
             @PathVariable UUID darkHistoryId
     ) {
         DarkHistory dh = darkHistoryService.viewDarkHistory(darkHistoryId);
-        return ApiResponse.ok(DarkHistoryResponse.from(dh));
+        return ApiResponse.ok(DarkHistoryResponse.from(dh, darkHistoryService.getViewCount(dh)));
     }
 
     /**
@@ -138,9 +158,19 @@ public class DarkHistoryController {
     public ApiResponse<Page<PublicDarkHistoryResponse>> getPublicDarkHistories(
             @PageableDefault(size = 20) Pageable pageable
     ) {
-        Page<PublicDarkHistoryResponse> page = darkHistoryService.getPublicDarkHistories(pageable)
-                .map(dh -> PublicDarkHistoryResponse.from(dh, true));  // 익명 처리
-        return ApiResponse.ok(page);
+        return ApiResponse.ok(publicFeedService.getPage(pageable));
+    }
+
+    /**
+     * 공개 흑역사 피드 (인기순, 커서 기반)
+     * GET /api/dark-histories/public/feed?cursor=...&size=20
+     */
+    @GetMapping("/public/feed")
+    public ApiResponse<CursorResponse<PublicDarkHistoryResponse>> getPublicFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.ok(publicFeedService.getFeed(cursor, Math.clamp(size, 1, 100)));
     }
 
     // === 통계 ===
@@ -6,6 +6,8 @@ import com.example.starlogue.domain.StudySession;
 import com.example.starlogue.dto.SessionDto;
 import com.example.starlogue.service.StudyFacadeService;
 import com.example.starlogue.service.StudySessionService;
+import com.example.starlogue.service.concurrency.IdempotencyService;
+import com.example.starlogue.service.timeline.SessionTimelineService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +22,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import static com.example.starlogue.dto.CursorDto.CursorResponse;
 import static com.example.starlogue.dto.SessionDto.*;
 import static com.example.starlogue.service.StudyFacadeService.*;
 
@@ -39,6 +42,8 @@ public class StudySessionController {
 
     private final StudySessionService sessionService;
     private final StudyFacadeService facadeService;
+    private final IdempotencyService idempotencyService;
+    private final SessionTimelineService timelineService;
 
     // === 세션 라이프사이클 ===
 
@@ -49,25 +54,28 @@ public class StudySessionController {
     @PostMapping("/start")
     public ApiResponse<SessionResponse> startSession(
             @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody(required = false) StartSessionRequest request
     ) {
-        StudySession session;
         UUID userId = userDetails.getUserId();
 
         log.info("request {}", request);
-        if (request == null) {
-            // 다짐 없이 간단 시작
-            session = facadeService.startStudy(userId, null, null, null);
-        } else {
-            session = facadeService.startStudy(
-                    userId,
-                    request.tagId(),
-                    request.pledgeContent(),
-                    request.targetMinutes()
-            );
-        }
+        return idempotencyService.execute(userId, "session.start", idempotencyKey, request, () -> {
+            StudySession session;
+            if (request == null) {
+                // 다짐 없이 간단 시작
+                session = facadeService.startStudy(userId, null, null, null);
+            } else {
+                session = facadeService.startStudy(
+                        userId,
+                        request.tagId(),
+                        request.pledgeContent(),
+                        request.targetMinutes()
+                );
+            }
 
-        return ApiResponse.ok(SessionResponse.from(session), "공부를 시작합니다! 화이팅 💪");
+            return ApiResponse.ok(SessionResponse.from(session), "공부를 시작합니다! 화이팅 💪");
+        });
     }
 
     /**
@@ -76,23 +84,27 @@ public class StudySessionController {
      */
     @PostMapping("/{sessionId}/stop")
     public ApiResponse<SessionResponse> stopSession(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable UUID sessionId,
             @Valid @RequestBody StopSessionRequest request
     ) {
-        StudySession session = facadeService.pauseStudy(
-                sessionId,
-                request.reason(),
-                request.expectedMinutes()
-        );
+        return idempotencyService.execute(userDetails.getUserId(), "session.stop:" + sessionId, idempotencyKey, request, () -> {
+            StudySession session = facadeService.pauseStudy(
+                    sessionId,
+                    request.reason(),
+                    request.expectedMinutes()
+            );
 
-        String message = switch (request.reason()) {
-            case BATHROOM -> "화장실 다녀오세요! ⏸️";
-            case INTERRUPTION -> "방해 요소를 처리하고 돌아오세요!";
-            case REST -> "잠시 휴식! 너무 오래 쉬지는 마세요 😊";
-            case DISTRACTION -> "딴짓 자백... 정직함이 미덕이죠 😅";
-        };
+            String message = switch (request.reason()) {
+                case BATHROOM -> "화장실 다녀오세요! ⏸️";
+                case INTERRUPTION -> "방해 요소를 처리하고 돌아오세요!";
+                case REST -> "잠시 휴식! 너무 오래 쉬지는 마세요 😊";
+                case DISTRACTION -> "딴짓 자백... 정직함이 미덕이죠 😅";
+            };
 
-        return ApiResponse.ok(SessionResponse.from(session), message);
+            return ApiResponse.ok(SessionResponse.from(session), message);
+        });
     }
 
     /**
@@ -101,15 +113,19 @@ public class StudySessionController {
      */
     @PostMapping("/{sessionId}/resume")
     public ApiResponse<SessionResponse> resumeSession(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable UUID sessionId
     ) {
-        StudySession session = facadeService.resumeStudy(sessionId);
+        return idempotencyService.execute(userDetails.getUserId(), "session.resume:" + sessionId, idempotencyKey, null, () -> {
+            StudySession session = facadeService.resumeStudy(sessionId);
 
-        String message = session.getBrokenPromiseCount() > 0
-                ? "약속을 어겼지만... 다시 시작이 중요해요! 📚"
-                : "다시 집중! 이어서 화이팅 🔥";
+            String message = session.getBrokenPromiseCount() > 0
+                    ? "약속을 어겼지만... 다시 시작이 중요해요! 📚"
+                    : "다시 집중! 이어서 화이팅 🔥";
 
-        return ApiResponse.ok(SessionResponse.from(session), message);
+            return ApiResponse.ok(SessionResponse.from(session), message);
+        });
     }
 
     /**
@@ -118,10 +134,14 @@ public class StudySessionController {
      */
     @PostMapping("/{sessionId}/end")
     public ApiResponse<SessionEndResponse> endSession(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable UUID sessionId
     ) {
-        SessionEndResult result = facadeService.endStudy(sessionId);
-        return ApiResponse.ok(SessionEndResponse.from(result.session()));
+        return idempotencyService.execute(userDetails.getUserId(), "session.end:" + sessionId, idempotencyKey, null, () -> {
+            SessionEndResult result = facadeService.endStudy(sessionId);
+            return ApiResponse.ok(SessionEndResponse.from(result.session()));
+        });
     }
 
     /**
@@ -130,13 +150,44 @@ public class StudySessionController {
      */
     @PostMapping("/{sessionId}/abandon")
     public ApiResponse<SessionEndResponse> abandonSession(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable UUID sessionId
     ) {
-        SessionEndResult result = facadeService.abandonStudy(sessionId);
-        return ApiResponse.ok(
-                SessionEndResponse.from(result.session()),
-                "오늘은 여기까지... 내일 다시 도전해요! 🌙"
-        );
+        return idempotencyService.execute(userDetails.getUserId(), "session.abandon:" + sessionId, idempotencyKey, null, () -> {
+            SessionEndResult result = facadeService.abandonStudy(sessionId);
+            return ApiResponse.ok(
+                    SessionEndResponse.from(result.session()),
+                    "오늘은 여기까지... 내일 다시 도전해요! 🌙"
+            );
+        });
+    }
+
+    /**
+     * 오프라인 이벤트 일괄 반영 (연결이 끊긴 동안의 집중/중단/재개)
+     * POST /api/sessions/{sessionId}/events:batch
+     * - 진행 중인 세션만 가능: 하트비트에 offlineCapable을 보낸 세션은 끊겨도 offline-hold-seconds(기본 4시간) 동안 유지
+     * - 그 외에는 연결 유예 시간(기본 60초)이 지나 탈주 처리된 세션은 409
+     */
+    @PostMapping("/{sessionId}/events:batch")
+    public ApiResponse<EventBatchResponse> applyEventBatch(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable UUID sessionId,
+            @Valid @RequestBody EventBatchRequest request
+    ) {
+        UUID userId = userDetails.getUserId();
+        return idempotencyService.execute(userId, "session.events:" + sessionId, idempotencyKey, request, () -> {
+            EventBatchResult result = facadeService.applyEventBatch(
+                    userId,
+                    sessionId,
+                    request.events().stream().map(SessionEventRequest::toOfflineEvent).toList()
+            );
+            return ApiResponse.ok(new EventBatchResponse(
+                    SessionResponse.from(result.session()),
+                    result.appliedCount()
+            ));
+        });
     }
 
     // === 상태 조회 ===
@@ -172,10 +223,26 @@ public class StudySessionController {
     public ApiResponse<SessionResponse> getSession(
             @PathVariable UUID sessionId
     ) {
-        StudySession session = sessionService.getSession(sessionId);
+        StudySession session = sessionService.getSessionWithDetails(sessionId);
         return ApiResponse.ok(SessionResponse.from(session));
     }
 
+    /**
+     * 세션 집중 게이지/스태미나 타임라인 (차트용)
+     * GET /api/sessions/{sessionId}/timeline?points=200
+     */
+    @GetMapping("/{sessionId}/timeline")
+    public ApiResponse<TimelineResponse> getTimeline(
+            @PathVariable UUID sessionId,
+            @RequestParam(defaultValue = "200") int points
+    ) {
+        StudySession session = sessionService.getSession(sessionId);
+        return ApiResponse.ok(TimelineResponse.of(
+                session,
+                timelineService.getTimeline(sessionId, Math.clamp(points, 3, 2000))
+        ));
+    }
+
     /**
      * 세션의 중단 이벤트 목록
      * GET /api/sessions/{sessionId}/stop-events
@@ -225,6 +292,23 @@ public class StudySessionController {
         return ApiResponse.ok(sessions);
     }
 
+    /**
+     * 세션 히스토리 (커서 기반)
+     * GET /api/sessions/history/cursor?cursor=...&size=20
+     */
+    @GetMapping("/history/cursor")
+    public ApiResponse<CursorResponse<SessionResponse>> getSessionHistoryByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        UUID userId = userDetails.getUserId();
+        CursorResponse<SessionResponse> sessions = sessionService
+                .getSessionHistory(userId, cursor, Math.clamp(size, 1, 100))
+                .map(SessionResponse::from);
+        return ApiResponse.ok(sessions);
+    }
+
     // === 실시간 업데이트 ===
 
     /**
@@ -236,8 +320,7 @@ public class StudySessionController {
             @PathVariable UUID sessionId,
             @Valid @RequestBody UpdateFocusRequest request
     ) {
-        sessionService.updateFocusTime(sessionId, request.additionalSeconds());
-        StudySession session = sessionService.getSession(sessionId);
+        StudySession session = facadeService.heartbeat(sessionId, request.additionalSeconds());
         return ApiResponse.ok(SessionResponse.from(session));
     }
 }
\ No newline at end of file
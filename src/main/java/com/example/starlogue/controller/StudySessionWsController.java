@@ -4,6 +4,7 @@ import com.example.starlogue.config.websocket.StompPrincipal;
 import com.example.starlogue.domain.StudySession;
 import com.example.starlogue.dto.SessionDto.SessionResponse;
 import com.example.starlogue.service.SessionConnectionService;
+import com.example.starlogue.service.StudyFacadeService;
 import com.example.starlogue.service.StudySessionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,12 +30,14 @@ import java.util.UUID;
 public class StudySessionWsController {
 
     private final StudySessionService sessionService;
+    private final StudyFacadeService facadeService;
     private final SessionConnectionService connectionService;
 
     /**
      * 집중 시간 업데이트 (heartbeat)
-     * 클라이언트: stompClient.send("/app/session/heartbeat", {}, JSON.stringify({sessionId, seconds}))
+     * 클라이언트: stompClient.send("/app/session/heartbeat", {}, JSON.stringify({sessionId, seconds, offlineCapable}))
      * 응답: /user/queue/session/update
+     * - offlineCapable = true: 끊겨도 오프라인 이벤트를 모아 /events:batch로 보낼 클라이언트 (탈주 처리 보류)
      */
     @MessageMapping("/session/heartbeat")
     @SendToUser("/queue/session/update")
@@ -43,8 +46,8 @@ public class StudySessionWsController {
         log.debug("Heartbeat 수신 - userId: {}, sessionId: {}, seconds: {}",
                 userId, message.sessionId(), message.seconds());
 
-        sessionService.updateFocusTime(message.sessionId(), message.seconds());
-        StudySession session = sessionService.getSession(message.sessionId());
+        connectionService.declareOfflineMode(userId, message.sessionId(), Boolean.TRUE.equals(message.offlineCapable()));
+        StudySession session = facadeService.heartbeat(message.sessionId(), message.seconds());
 
         return SessionResponse.from(session);
     }
@@ -94,5 +97,5 @@ public class StudySessionWsController {
 
     // === Message DTOs ===
 
-    public record HeartbeatMessage(UUID sessionId, int seconds) {}
+    public record HeartbeatMessage(UUID sessionId, int seconds, Boolean offlineCapable) {}
 }
@@ -5,11 +5,14 @@ import com.example.starlogue.controller.response.ApiResponse;
 import com.example.starlogue.domain.Tag;
 import com.example.starlogue.dto.TagDto;
 import com.example.starlogue.service.TagService;
+import com.example.starlogue.service.stats.TagStatsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,6 +27,7 @@ import static com.example.starlogue.dto.TagDto.*;
 public class TagController {
 
     private final TagService tagService;
+    private final TagStatsService tagStatsService;
 
     /**
      * 내 태그 목록 조회 (활성만)
@@ -84,8 +88,7 @@ public class TagController {
     public ApiResponse<TagResponse> getTag(
             @PathVariable UUID tagId
     ) {
-        Tag tag = tagService.getTag(tagId);
-        return ApiResponse.ok(TagResponse.from(tag));
+        return ApiResponse.ok(TagResponse.from(tagService.getCachedTag(tagId)));
     }
 
     /**
@@ -127,8 +130,24 @@ public class TagController {
             @PathVariable UUID tagId
     ) {
         tagService.activateTag(tagId);
-        Tag tag = tagService.getTag(tagId);
-        return ApiResponse.ok(TagResponse.from(tag), "태그가 활성화되었습니다.");
+        return ApiResponse.ok(TagResponse.from(tagService.getCachedTag(tagId)), "태그가 활성화되었습니다.");
+    }
+
+    /**
+     * 태그 기간 통계 (공부 시간 / 세션 / 성공률 / 집중 / 중단 사유)
+     * GET /api/tags/{tagId}/stats?from=2024-03-01&to=2024-03-31 (기본: 최근 30일)
+     */
+    @GetMapping("/{tagId}/stats")
+    public ApiResponse<TagStatsResponse> getTagStats(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable UUID tagId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ApiResponse.ok(TagStatsResponse.from(
+                tagStatsService.getStats(userDetails.getUserId(), tagId, start, end)));
     }
 
     /**
@@ -5,13 +5,28 @@ import com.example.starlogue.controller.response.ApiResponse;
 import com.example.starlogue.domain.User;
 import com.example.starlogue.dto.UserDto;
 import com.example.starlogue.service.UserService;
+import com.example.starlogue.service.export.HistoryExportService;
+import com.example.starlogue.service.export.HistoryExportService.ExportRequest;
+import com.example.starlogue.service.migration.HistoryImportService;
+import com.example.starlogue.service.ranking.LeaderboardWindow;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.stream.IntStream;
 
 import static com.example.starlogue.dto.UserDto.*;
 
@@ -24,6 +39,8 @@ import static com.example.starlogue.dto.UserDto.*;
 public class UserController {
 
     private final UserService userService;
+    private final HistoryExportService historyExportService;
+    private final HistoryImportService historyImportService;
 
     /**
      * 내 정보 조회
@@ -34,8 +51,7 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         UUID userId = userDetails.getUserId();
-        User user = userService.getUser(userId);
-        return ApiResponse.ok(UserResponse.from(user));
+        return ApiResponse.ok(UserResponse.from(userService.getUserProfile(userId)));
     }
 
     /**
@@ -65,8 +81,67 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         UUID userId = userDetails.getUserId();
-        User user = userService.getUser(userId);
-        return ApiResponse.ok(UserStatsResponse.from(user));
+        return ApiResponse.ok(UserStatsResponse.from(userService.getUserProfile(userId)));
+    }
+
+    /**
+     * 내 랭킹 조회 (순위 / 백분위)
+     * GET /api/users/me/ranking
+     */
+    @GetMapping("/me/ranking")
+    public ApiResponse<MyRankingResponse> getMyRanking(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        UUID userId = userDetails.getUserId();
+        return ApiResponse.ok(MyRankingResponse.from(userService.getMyRanking(userId)));
+    }
+
+    /**
+     * 내 전체 기록 내보내기 (스트리밍)
+     * GET /api/users/me/export?format=ndjson|csv&dataset=sessions&gzip=true
+     * - dataset 생략 시 전체 (NDJSON만 가능, 각 줄의 type으로 구분)
+     */
+    @GetMapping("/me/export")
+    public ResponseEntity<StreamingResponseBody> exportMyHistory(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String dataset,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        UUID userId = userDetails.getUserId();
+        ExportRequest request = historyExportService.parseRequest(format, dataset);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(request.fileName(LocalDate.now(), gzip))
+                .build();
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(request.format().getContentType());
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(contentType)
+                .body(out -> historyExportService.export(userId, request, gzip, out));
+    }
+
+    /**
+     * 다른 타이머 앱 기록 가져오기
+     * POST /api/users/me/import (multipart file: NDJSON, 시작 시각 오름차순, .gz 가능)
+     */
+    @PostMapping("/me/import")
+    public ApiResponse<ImportResponse> importMyHistory(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        UUID userId = userDetails.getUserId();
+        String fileName = file.getOriginalFilename();
+        try (InputStream input = fileName != null && fileName.endsWith(".gz")
+                ? new GZIPInputStream(file.getInputStream())
+                : file.getInputStream()) {
+            HistoryImportService.ImportResult result = historyImportService.importHistory(userId, input);
+            return ApiResponse.ok(ImportResponse.from(result),
+                    result.sessionCount() + "개의 세션을 가져왔습니다.");
+        }
     }
 
     /**
@@ -98,4 +173,44 @@ public class UserController {
                 .toList();
         return ApiResponse.ok(ranking);
     }
-}
\ No newline at end of file
+
+    /**
+     * 오늘 실시간 공부시간 랭킹 (진행 중 세션 포함)
+     * GET /api/users/ranking/today
+     */
+    @GetMapping("/ranking/today")
+    public ApiResponse<List<WindowRankingResponse>> getTodayRanking(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ApiResponse.ok(getWindowRanking(LeaderboardWindow.TODAY, limit));
+    }
+
+    /**
+     * 주간 공부시간 랭킹 (최근 7일)
+     * GET /api/users/ranking/weekly
+     */
+    @GetMapping("/ranking/weekly")
+    public ApiResponse<List<WindowRankingResponse>> getWeeklyRanking(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ApiResponse.ok(getWindowRanking(LeaderboardWindow.WEEKLY, limit));
+    }
+
+    /**
+     * 월간 공부시간 랭킹 (최근 30일)
+     * GET /api/users/ranking/monthly
+     */
+    @GetMapping("/ranking/monthly")
+    public ApiResponse<List<WindowRankingResponse>> getMonthlyRanking(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ApiResponse.ok(getWindowRanking(LeaderboardWindow.MONTHLY, limit));
+    }
+
+    private List<WindowRankingResponse> getWindowRanking(LeaderboardWindow window, int limit) {
+        List<UserService.WindowRanking> ranking = userService.getWindowRanking(window, limit);
+        return IntStream.range(0, ranking.size())
+                .mapToObj(i -> WindowRankingResponse.of(i + 1, ranking.get(i)))
+                .toList();
+    }
+}
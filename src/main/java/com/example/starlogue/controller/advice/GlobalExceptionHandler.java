@@ -1,7 +1,9 @@
 package com.example.starlogue.controller.advice;
 
 import com.example.starlogue.controller.response.ApiResponse;
+import com.example.starlogue.service.concurrency.IdempotencyKeyReusedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -41,6 +43,28 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getMessage()));
     }
 
+    /**
+     * 동시 수정 충돌 (낙관적 락 재시도 초과)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLock(OptimisticLockingFailureException e) {
+        log.warn("동시 수정 충돌: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("다른 요청과 동시에 처리되었습니다. 다시 시도해주세요."));
+    }
+
+    /**
+     * Idempotency-Key 재사용 (다른 요청 본문)
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyKeyReused(IdempotencyKeyReusedException e) {
+        log.warn("Idempotency-Key 재사용: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
     /**
      * Validation 예외
      */
@@ -2,13 +2,16 @@ package com.example.starlogue.domain;
 
 
 import com.example.starlogue.domain.enums.RecordType;
+import com.example.starlogue.domain.event.StudySessionRecordedEvent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,7 +46,7 @@ public class DailyRecord extends AbstractEntity {
     private Integer totalStudyMinutes = 0;  // 총 공부 시간 → 별 크기/밝기
 
     @Column(length = 7)
-    private String primaryColorHex;  // 가장 많이 사용한 태그 색상 → 별 색상
+    private String primaryColorHex;  // 그날 가장 오래 공부한 태그 색상 → 별 색상 (TagStatsService)
 
     @Column(nullable = false)
     private Integer brightness = 0;  // 별 밝기 (0~100)
@@ -74,9 +77,21 @@ public class DailyRecord extends AbstractEntity {
 
     private String mvpTimeRange;  // "14:10~14:32" 형태
 
+    private LocalDateTime mvpStartedAt;  // 하루 중 가장 긴 무중단 집중 구간
+    private LocalDateTime mvpEndedAt;
+
+    private LocalDateTime lastFocusStartedAt;  // 마지막 집중 구간 (다음 세션이 바로 이어지면 합친다)
+    private LocalDateTime lastFocusEndedAt;
+
     @Column(nullable = false)
     private Boolean hasSupernova = false;  // 초신성(Nebula) 효과 표시 여부
 
+    // === 낙관적 락 (동시 수정 감지) ===
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // === 연관 관계 ===
     @OneToMany(mappedBy = "dailyRecord", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StudySession> sessions = new ArrayList<>();
@@ -115,12 +130,61 @@ public class DailyRecord extends AbstractEntity {
             this.maxFocusMinutes = sessionMaxFocus;
         }
 
-        // 태그 색상 반영 (가장 많이 사용한 태그)
-        if (session.getTag() != null && this.primaryColorHex == null) {
-            this.primaryColorHex = session.getTag().getColorHex();
-        }
+        // MVP 구간 갱신 (이번 세션 구간만 이어서 계산)
+        mergeFocusIntervals(FocusInterval.of(session));
 
         updateStarProperties();
+
+        registerEvent(new StudySessionRecordedEvent(
+                user.getId(), session.getId(), recordDate, session.getTotalStudySeconds()));
+    }
+
+    /**
+     * 집중 구간 병합 (한 번 훑기)
+     * - 세션은 하루에 시간순으로 하나씩 끝나므로 직전 구간(last)과 맞닿으면 이어 붙이고 아니면 새로 시작
+     * - 지금까지의 최장 구간을 MVP로 유지
+     */
+    private void mergeFocusIntervals(List<FocusInterval> intervals) {
+        FocusInterval current = lastFocusStartedAt != null
+                ? new FocusInterval(lastFocusStartedAt, lastFocusEndedAt) : null;
+        FocusInterval best = mvpStartedAt != null
+                ? new FocusInterval(mvpStartedAt, mvpEndedAt) : null;
+
+        for (FocusInterval interval : intervals) {
+            if (current != null && !interval.start().isAfter(current.end())) {
+                LocalDateTime end = interval.end().isAfter(current.end()) ? interval.end() : current.end();
+                current = new FocusInterval(current.start(), end);
+            } else {
+                current = interval;
+            }
+            if (best == null || current.seconds() > best.seconds()) {
+                best = current;
+            }
+        }
+
+        if (current != null) {
+            this.lastFocusStartedAt = current.start();
+            this.lastFocusEndedAt = current.end();
+        }
+        if (best != null) {
+            this.mvpStartedAt = best.start();
+            this.mvpEndedAt = best.end();
+            this.mvpTimeRange = best.toTimeRange();
+        }
+    }
+
+    /**
+     * 대표 색상 갱신 (태그별 일일 집계 기준)
+     */
+    public void updatePrimaryColor(String colorHex) {
+        this.primaryColorHex = colorHex;
+    }
+
+    /**
+     * MVP 구간 길이 (분)
+     */
+    public int getMvpMinutes() {
+        return mvpStartedAt != null ? (int) (new FocusInterval(mvpStartedAt, mvpEndedAt).seconds() / 60) : 0;
     }
 
     /**
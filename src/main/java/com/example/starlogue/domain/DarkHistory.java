@@ -17,7 +17,8 @@ import java.util.UUID;
  * - 블랙홀 클릭 시 팝업으로 노출
  */
 @Entity
-@Table(name = "dark_histories")
+@Table(name = "dark_histories",
+        indexes = @Index(name = "idx_dark_history_public_feed", columnList = "is_public, view_count DESC, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DarkHistory extends AbstractEntity {
@@ -76,11 +77,13 @@ public class DarkHistory extends AbstractEntity {
     // === 비즈니스 메서드 ===
 
     /**
-     * 조회 (블랙홀 클릭 시)
+     * 확인 처리 (블랙홀 클릭 시)
+     * - 조회수는 DarkHistoryViewCounter에서 모아 일괄 반영
      */
-    public void view() {
-        this.viewCount++;
-        this.isAcknowledged = true;
+    public void acknowledge() {
+        if (!this.isAcknowledged) {
+            this.isAcknowledged = true;
+        }
     }
 
     /**
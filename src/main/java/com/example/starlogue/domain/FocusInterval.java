@@ -0,0 +1,55 @@
+package com.example.starlogue.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 끊김 없는 집중 구간 [start, end)
+ * - 세션 하나는 [시작, 중단1), [재개1, 중단2), ..., [재개N, 종료) 로 나뉜다
+ */
+public record FocusInterval(LocalDateTime start, LocalDateTime end) {
+
+    private static final DateTimeFormatter CLOCK = DateTimeFormatter.ofPattern("HH:mm");
+
+    public long seconds() {
+        return Duration.between(start, end).getSeconds();
+    }
+
+    /**
+     * 시계 구간 표기 (예: "14:10~14:32")
+     */
+    public String toTimeRange() {
+        return start.format(CLOCK) + "~" + end.format(CLOCK);
+    }
+
+    /**
+     * 종료된 세션의 집중 구간들 (시간순)
+     * - 중단 이벤트는 stoppedAt 오름차순으로 매핑되어 있으므로 한 번 훑으면 된다
+     * - 재개 없이 끝난 중단(중단 중 탈주/포기)은 그 중단 시점에서 구간이 끝난다
+     */
+    public static List<FocusInterval> of(StudySession session) {
+        List<FocusInterval> intervals = new ArrayList<>();
+        LocalDateTime focusStart = session.getStartedAt();
+
+        for (StopEvent stop : session.getStopEvents()) {
+            if (focusStart != null) {
+                add(intervals, focusStart, stop.getStoppedAt());
+            }
+            focusStart = stop.getResumedAt();  // 재개 안 했으면 null
+        }
+
+        if (focusStart != null && session.getEndedAt() != null) {
+            add(intervals, focusStart, session.getEndedAt());
+        }
+        return intervals;
+    }
+
+    private static void add(List<FocusInterval> intervals, LocalDateTime start, LocalDateTime end) {
+        if (end.isAfter(start)) {
+            intervals.add(new FocusInterval(start, end));
+        }
+    }
+}
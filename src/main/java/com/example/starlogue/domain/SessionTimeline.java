@@ -0,0 +1,28 @@
+package com.example.starlogue.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 세션 집중 게이지/스태미나 시계열
+ * - 하트비트·중단·재개 시점의 값을 델타 + varint로 압축해 세션당 한 행(bytea)으로 보관
+ * - 진행 중에는 메모리에서 이어 붙이고 주기적으로/종료 시 통째로 덮어쓴다 (SessionTimelineService)
+ */
+@Entity
+@Table(name = "session_timelines")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SessionTimeline extends AbstractEntity {
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "session_id", nullable = false, unique = true)
+    private StudySession session;
+
+    @Column(nullable = false)
+    private byte[] data;  // TimelineBuilder 인코딩 결과
+
+    @Column(nullable = false)
+    private Integer pointCount = 0;
+}
@@ -50,11 +50,11 @@ public class StopEvent extends AbstractEntity {
     private String note;  // 추가 메모 (선택)
 
     @Builder
-    public StopEvent(StudySession session, StopReason reason, Integer expectedMinutes) {
+    public StopEvent(StudySession session, StopReason reason, Integer expectedMinutes, LocalDateTime stoppedAt) {
         this.session = session;
         this.reason = reason;
         this.expectedMinutes = expectedMinutes;
-        this.stoppedAt = LocalDateTime.now();
+        this.stoppedAt = stoppedAt != null ? stoppedAt : LocalDateTime.now();
     }
 
     // === 비즈니스 메서드 ===
@@ -63,7 +63,14 @@ public class StopEvent extends AbstractEntity {
      * 공부 재개
      */
     public void resume() {
-        this.resumedAt = LocalDateTime.now();
+        resume(LocalDateTime.now());
+    }
+
+    /**
+     * 공부 재개 (시각 지정 - 오프라인 이벤트 재생용)
+     */
+    public void resume(LocalDateTime resumedAt) {
+        this.resumedAt = resumedAt;
         this.actualPauseSeconds = (int) Duration.between(stoppedAt, resumedAt).getSeconds();
 
         // 약속 어김 판정: 예상 시간 초과 시 (기획서: 유예 시간 없음)
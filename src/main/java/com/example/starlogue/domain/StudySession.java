@@ -2,11 +2,14 @@ package com.example.starlogue.domain;
 
 import com.example.starlogue.domain.enums.SessionStatus;
 import com.example.starlogue.domain.enums.StopReason;
+import com.example.starlogue.domain.event.FocusTimeAddedEvent;
+import com.example.starlogue.domain.event.SessionGaugeSampledEvent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -76,6 +79,12 @@ public class StudySession extends AbstractEntity {
     @Column(nullable = false)
     private Boolean paused = false;  // 현재 중단 상태
 
+    // === 낙관적 락 (동시 수정 감지) ===
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // === 중단 이벤트 ===
     @OneToMany(mappedBy = "session", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("stoppedAt ASC")
@@ -95,6 +104,13 @@ public class StudySession extends AbstractEntity {
      * 공부 중단 (Stop 버튼)
      */
     public StopEvent stop(StopReason reason, Integer expectedMinutes) {
+        return stop(reason, expectedMinutes, LocalDateTime.now());
+    }
+
+    /**
+     * 공부 중단 (시각 지정 - 오프라인 이벤트 재생용)
+     */
+    public StopEvent stop(StopReason reason, Integer expectedMinutes, LocalDateTime stoppedAt) {
         // 현재 집중 게이지 저장 후 리셋
         if (this.focusGauge > this.maxFocusGauge) {
             this.maxFocusGauge = this.focusGauge;
@@ -114,10 +130,12 @@ public class StudySession extends AbstractEntity {
                 .session(this)
                 .reason(reason)
                 .expectedMinutes(expectedMinutes)
+                .stoppedAt(stoppedAt)
                 .build();
 
         this.stopEvents.add(stopEvent);
         this.paused = true;
+        registerGaugeSample(stoppedAt);
         return stopEvent;
     }
 
@@ -125,7 +143,14 @@ public class StudySession extends AbstractEntity {
      * 공부 재개 (Resume)
      */
     public void resume(StopEvent stopEvent) {
-        stopEvent.resume();
+        resume(stopEvent, LocalDateTime.now());
+    }
+
+    /**
+     * 공부 재개 (시각 지정 - 오프라인 이벤트 재생용)
+     */
+    public void resume(StopEvent stopEvent, LocalDateTime resumedAt) {
+        stopEvent.resume(resumedAt);
 
         // 약속 어김 체크 (예상 시간 초과)
         if (stopEvent.getIsBrokenPromise()) {
@@ -137,17 +162,25 @@ public class StudySession extends AbstractEntity {
         // 중단 시간 누적
         this.totalPauseSeconds += stopEvent.getActualPauseSeconds();
         this.paused = false;
+        registerGaugeSample(resumedAt);
     }
 
     /**
      * 집중 시간 업데이트 (타이머에서 주기적 호출)
      */
     public void updateFocusGauge(int additionalSeconds) {
+        updateFocusGauge(additionalSeconds, LocalDateTime.now());
+    }
+
+    /**
+     * 집중 시간 업데이트 (시각 지정 - 오프라인 이벤트 재생용)
+     */
+    public void updateFocusGauge(int additionalSeconds, LocalDateTime at) {
         this.focusGauge += additionalSeconds;
         this.totalStudySeconds += additionalSeconds;
 
         // 연속 집중 보상: 세션 시간의 50% 이상 연속 집중 시 스태미나 +10
-        int sessionElapsedSeconds = (int) Duration.between(startedAt, LocalDateTime.now()).getSeconds();
+        int sessionElapsedSeconds = (int) Duration.between(startedAt, at).getSeconds();
         if (this.focusGauge >= sessionElapsedSeconds * 0.5 && this.stamina < 100) {
             this.stamina = Math.min(100, this.stamina + 10);
         }
@@ -155,6 +188,9 @@ public class StudySession extends AbstractEntity {
         if (this.focusGauge > this.maxFocusGauge) {
             this.maxFocusGauge = this.focusGauge;
         }
+
+        registerEvent(new FocusTimeAddedEvent(user.getId(), getId(), additionalSeconds));
+        registerGaugeSample(at);
     }
 
     /**
@@ -162,6 +198,7 @@ public class StudySession extends AbstractEntity {
      */
     public void end() {
         this.endedAt = LocalDateTime.now();
+        registerGaugeSample(this.endedAt);
 
         // 성공/실패 판정
         if (this.status == SessionStatus.FAILED || this.stamina == 0) {
@@ -216,4 +253,12 @@ public class StudySession extends AbstractEntity {
     public void linkToDailyRecord(DailyRecord dailyRecord) {
         this.dailyRecord = dailyRecord;
     }
-}
\ No newline at end of file
+
+    /**
+     * 타임라인 기록용 도메인 이벤트 등록 (저장 시 발행)
+     */
+    private void registerGaugeSample(LocalDateTime at) {
+        int offsetSeconds = (int) Math.max(0, Duration.between(startedAt, at).getSeconds());
+        registerEvent(new SessionGaugeSampledEvent(getId(), offsetSeconds, focusGauge, stamina));
+    }
+}
@@ -42,10 +42,6 @@ public class Tag extends AbstractEntity {
 
     // === 비즈니스 메서드 ===
 
-    public void incrementUsageCount() {
-        this.usageCount++;
-    }
-
     public void update(String name, String colorHex, String icon) {
         this.name = name;
         this.colorHex = colorHex;
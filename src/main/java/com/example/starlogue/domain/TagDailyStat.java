@@ -0,0 +1,67 @@
+package com.example.starlogue.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 태그별 일일 집계 (과목별 통계용 버킷)
+ * - 세션이 DailyRecord에 반영될 때 같은 트랜잭션에서 UPSERT로 누적 (TagStatsService)
+ * - 기간 통계는 세션을 다시 훑지 않고 이 버킷들을 더해서 계산
+ */
+@Entity
+@Table(name = "tag_daily_stats",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"tag_id", "stat_date"}),
+        indexes = @Index(name = "idx_tag_stat_user_date", columnList = "user_id, stat_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagDailyStat extends AbstractEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tag_id", nullable = false)
+    private Tag tag;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;  // DailyRecord.recordDate 와 같은 기준 (세션 시작일)
+
+    @Column(nullable = false)
+    private Integer studySeconds = 0;
+
+    @Column(nullable = false)
+    private Integer sessionCount = 0;
+
+    @Column(nullable = false)
+    private Integer successCount = 0;
+
+    @Column(nullable = false)
+    private Integer focusSecondsSum = 0;  // 세션별 최장 집중 시간의 합 (평균 계산용)
+
+    @Column(nullable = false)
+    private Integer bestFocusSeconds = 0;  // 가장 긴 연속 집중 시간
+
+    @Column(nullable = false)
+    private Integer pauseSeconds = 0;
+
+    @Column(nullable = false)
+    private Integer brokenPromiseCount = 0;
+
+    // === 중단 사유별 횟수 ===
+    @Column(nullable = false)
+    private Integer bathroomStopCount = 0;
+
+    @Column(nullable = false)
+    private Integer interruptionStopCount = 0;
+
+    @Column(nullable = false)
+    private Integer restStopCount = 0;
+
+    @Column(nullable = false)
+    private Integer distractionStopCount = 0;
+}
@@ -2,11 +2,13 @@ package com.example.starlogue.domain;
 
 
 import com.example.starlogue.domain.enums.AuthProvider;
+import com.example.starlogue.domain.event.UserScoreChangedEvent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -53,6 +55,12 @@ public class User extends AbstractEntity {
     @Column(nullable = false)
     private Integer totalBlackHoles = 0; // 총 블랙홀 개수
 
+    // === 낙관적 락 (동시 수정 감지) ===
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StudySession> sessions = new ArrayList<>();
 
@@ -82,6 +90,7 @@ public class User extends AbstractEntity {
 
     public void addStudyMinutes(int minutes) {
         this.totalStudyMinutes += minutes;
+        registerScoreChanged();
     }
 
     public void recordDailySuccess() {
@@ -90,10 +99,19 @@ public class User extends AbstractEntity {
         if (this.currentStreak > this.longestStreak) {
             this.longestStreak = this.currentStreak;
         }
+        registerScoreChanged();
     }
 
     public void recordDailyFailure() {
         this.currentStreak = 0;  // streak 끊김
         this.totalBlackHoles++;
+        registerScoreChanged();
+    }
+
+    /**
+     * 랭킹 반영용 도메인 이벤트 등록 (저장 시 발행)
+     */
+    private void registerScoreChanged() {
+        registerEvent(new UserScoreChangedEvent(getId(), currentStreak, totalStudyMinutes));
     }
 }
\ No newline at end of file
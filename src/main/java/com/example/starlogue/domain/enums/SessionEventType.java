@@ -0,0 +1,10 @@
+package com.example.starlogue.domain.enums;
+
+/**
+ * 오프라인 동안 클라이언트가 기록한 세션 이벤트 종류
+ */
+public enum SessionEventType {
+    FOCUS,    // 집중 시간 틱 (하트비트)
+    STOP,     // 중단
+    RESUME    // 재개
+}
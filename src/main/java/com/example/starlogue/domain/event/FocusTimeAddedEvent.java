@@ -0,0 +1,14 @@
+package com.example.starlogue.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 진행 중인 세션에 집중 시간이 더해짐 (하트비트)
+ * - StudySession 애그리거트가 등록하고, 저장 시점에 발행된다
+ * - 커밋된 경우에만 실시간 리더보드에 반영 (낙관적 락 재시도 시 중복 반영 방지)
+ */
+public record FocusTimeAddedEvent(
+        UUID userId,
+        UUID sessionId,
+        int seconds
+) {}
@@ -0,0 +1,15 @@
+package com.example.starlogue.domain.event;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 과거 기록 일괄 가져오기 완료 이벤트
+ * - 엔티티를 거치지 않고 COPY로 적재되므로 서비스가 직접 발행한다
+ */
+public record HistoryImportedEvent(
+        UUID userId,
+        LocalDate firstDate,
+        LocalDate lastDate,
+        int sessionCount
+) {}
@@ -0,0 +1,15 @@
+package com.example.starlogue.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 세션의 집중 게이지/스태미나가 바뀜 (하트비트, 중단, 재개, 종료)
+ * - StudySession 애그리거트가 등록하고, 저장 시점에 발행된다
+ * - 세션 타임라인(시계열) 기록용
+ */
+public record SessionGaugeSampledEvent(
+        UUID sessionId,
+        int offsetSeconds,  // 세션 시작 후 경과 시간 (초)
+        int focusGauge,
+        int stamina
+) {}
@@ -0,0 +1,15 @@
+package com.example.starlogue.domain.event;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 종료된 세션이 일일 기록에 반영됨
+ * - DailyRecord 애그리거트가 등록하고, 저장 시점에 발행된다
+ */
+public record StudySessionRecordedEvent(
+        UUID userId,
+        UUID sessionId,
+        LocalDate recordDate,
+        int studySeconds
+) {}
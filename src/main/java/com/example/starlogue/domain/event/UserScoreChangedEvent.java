@@ -0,0 +1,14 @@
+package com.example.starlogue.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자 누적 점수(streak, 총 공부시간) 변경 이벤트
+ * - User 애그리거트가 등록하고, 저장 시점에 발행된다
+ * - 값 스냅샷을 담으므로 커밋 이후에 읽어도 안전하다
+ */
+public record UserScoreChangedEvent(
+        UUID userId,
+        int currentStreak,
+        int totalStudyMinutes
+) {}
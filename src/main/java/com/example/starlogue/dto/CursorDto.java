@@ -0,0 +1,92 @@
+package com.example.starlogue.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 페이징 관련 DTO
+ */
+public class CursorDto {
+
+    /**
+     * 커서 페이지 응답
+     * - nextCursor를 그대로 다음 요청의 cursor 파라미터로 넘긴다
+     */
+    public record CursorResponse<T>(
+            List<T> items,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        public static <T> CursorResponse<T> of(List<T> items, String nextCursor) {
+            return new CursorResponse<>(items, nextCursor, nextCursor != null);
+        }
+
+        /**
+         * size + 1건 조회 결과로 응답 구성 (초과분이 있으면 다음 커서 생성)
+         */
+        public static <T> CursorResponse<T> fromFetched(List<T> fetched, int size, Function<T, Cursor> cursorOf) {
+            if (fetched.size() <= size) {
+                return new CursorResponse<>(fetched, null, false);
+            }
+            List<T> items = fetched.subList(0, size);
+            return new CursorResponse<>(items, cursorOf.apply(items.get(size - 1)).encode(), true);
+        }
+
+        public <R> CursorResponse<R> map(Function<T, R> mapper) {
+            return new CursorResponse<>(items.stream().map(mapper).toList(), nextCursor, hasNext);
+        }
+    }
+
+    /**
+     * 정렬 키 + id로 이루어진 불투명 커서
+     * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출
+     */
+    public record Cursor(String key, UUID id) {
+
+        private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+        private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+        public String encode() {
+            return ENCODER.encodeToString((key + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor of(Object key, UUID id) {
+            return new Cursor(String.valueOf(key), id);
+        }
+
+        public int keyAsInt() {
+            return parseKey(Integer::parseInt);
+        }
+
+        public LocalDate keyAsDate() {
+            return parseKey(LocalDate::parse);
+        }
+
+        public LocalDateTime keyAsDateTime() {
+            return parseKey(LocalDateTime::parse);
+        }
+
+        private <V> V parseKey(Function<String, V> parser) {
+            try {
+                return parser.apply(key);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+
+        public static Cursor decode(String token) {
+            try {
+                String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new Cursor(raw.substring(0, separator), UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.example.starlogue.domain.enums.RecordType;
 import com.example.starlogue.domain.enums.ReportTone;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -63,6 +64,9 @@ public class DailyDto {
             int size,             // 1~5
             int maxFocusMinutes,
             String mvpTimeRange,
+            int mvpMinutes,               // 최장 무중단 집중 구간 길이
+            LocalDateTime mvpStartedAt,
+            LocalDateTime mvpEndedAt,
             boolean hasSupernova  // 30분+ 연속 집중
     ) {
         public static StarResponse from(DailyRecord record) {
@@ -73,6 +77,9 @@ public class DailyDto {
                     record.getSize(),
                     record.getMaxFocusMinutes(),
                     record.getMvpTimeRange(),
+                    record.getMvpMinutes(),
+                    record.getMvpStartedAt(),
+                    record.getMvpEndedAt(),
                     record.getHasSupernova()
             );
         }
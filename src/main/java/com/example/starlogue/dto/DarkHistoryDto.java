@@ -34,6 +34,10 @@ public class DarkHistoryDto {
             LocalDateTime createdAt
     ) {
         public static DarkHistoryResponse from(DarkHistory dh) {
+            return from(dh, dh.getViewCount());
+        }
+
+        public static DarkHistoryResponse from(DarkHistory dh, int viewCount) {
             return new DarkHistoryResponse(
                     dh.getId(),
                     dh.getDailyRecord().getId(),
@@ -44,7 +48,7 @@ public class DarkHistoryDto {
                     dh.getFailedMinutes(),
                     dh.getBrokenPromiseCount(),
                     dh.getSatireLevel(),
-                    dh.getViewCount(),
+                    viewCount,
                     dh.getIsPublic(),
                     dh.getIsAcknowledged(),
                     dh.getCreatedAt()
@@ -3,15 +3,22 @@ package com.example.starlogue.dto;
 import com.example.starlogue.domain.Pledge;
 import com.example.starlogue.domain.StopEvent;
 import com.example.starlogue.domain.StudySession;
+import com.example.starlogue.domain.enums.SessionEventType;
 import com.example.starlogue.domain.enums.SessionStatus;
 import com.example.starlogue.domain.enums.StopReason;
+import com.example.starlogue.service.StudySessionService;
+import com.example.starlogue.service.timeline.SessionTimelineService;
+import com.example.starlogue.service.timeline.TimelinePoint;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -61,6 +68,39 @@ public class SessionDto {
             int expectedMinutes
     ) {}
 
+    /**
+     * 오프라인 이벤트 일괄 반영 요청 (클라이언트 시각 기준 시간순)
+     */
+    public record EventBatchRequest(
+            @NotEmpty(message = "이벤트가 비어 있습니다")
+            List<@NotNull @Valid SessionEventRequest> events
+    ) {}
+
+    /**
+     * 오프라인 이벤트
+     * - FOCUS: seconds 필수
+     * - STOP: reason, expectedMinutes 필수
+     * - RESUME: 추가 값 없음
+     */
+    public record SessionEventRequest(
+            @NotNull(message = "이벤트 종류는 필수입니다")
+            SessionEventType type,
+
+            @NotNull(message = "이벤트 시각은 필수입니다")
+            LocalDateTime occurredAt,
+
+            @Min(value = 1, message = "집중 시간은 1초 이상이어야 합니다")
+            Integer seconds,
+
+            StopReason reason,
+
+            Integer expectedMinutes
+    ) {
+        public StudySessionService.OfflineEvent toOfflineEvent() {
+            return new StudySessionService.OfflineEvent(type, occurredAt, seconds, reason, expectedMinutes);
+        }
+    }
+
     /**
      * 집중 시간 업데이트 요청
      */
@@ -112,6 +152,29 @@ public class SessionDto {
         }
     }
 
+    /**
+     * 오프라인 이벤트 반영 결과
+     */
+    public record EventBatchResponse(
+            SessionResponse session,
+            int appliedCount
+    ) {}
+
+    /**
+     * 세션 타임라인 응답 (차트용, LTTB 다운샘플링)
+     * - offsetSeconds: startedAt 기준 경과 초
+     */
+    public record TimelineResponse(
+            UUID sessionId,
+            LocalDateTime startedAt,
+            int totalPoints,
+            List<TimelinePoint> points
+    ) {
+        public static TimelineResponse of(StudySession session, SessionTimelineService.TimelineView view) {
+            return new TimelineResponse(session.getId(), session.getStartedAt(), view.totalPoints(), view.points());
+        }
+    }
+
     /**
      * 다짐 응답
      */
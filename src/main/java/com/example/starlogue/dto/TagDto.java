@@ -1,10 +1,16 @@
 package com.example.starlogue.dto;
 
 import com.example.starlogue.domain.Tag;
+import com.example.starlogue.domain.enums.StopReason;
+import com.example.starlogue.service.TagSnapshot;
+import com.example.starlogue.service.stats.TagStats;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -65,5 +71,74 @@ public class TagDto {
                     tag.getIsActive()
             );
         }
+
+        public static TagResponse from(TagSnapshot tag) {
+            return new TagResponse(
+                    tag.id(),
+                    tag.name(),
+                    tag.colorHex(),
+                    tag.icon(),
+                    tag.usageCount(),
+                    tag.active()
+            );
+        }
+    }
+
+    /**
+     * 태그 기간 통계 응답
+     */
+    public record TagStatsResponse(
+            UUID tagId,
+            LocalDate from,
+            LocalDate to,
+            int totalMinutes,
+            int sessionCount,
+            int successCount,
+            double successRate,
+            int avgMaxFocusMinutes,
+            int bestFocusMinutes,
+            int totalPauseMinutes,
+            int brokenPromiseCount,
+            Map<StopReason, Integer> stopReasonMix,
+            List<TagDailyStatResponse> daily
+    ) {
+        public static TagStatsResponse from(TagStats stats) {
+            return new TagStatsResponse(
+                    stats.tagId(),
+                    stats.from(),
+                    stats.to(),
+                    (int) (stats.studySeconds() / 60),
+                    stats.sessionCount(),
+                    stats.successCount(),
+                    stats.successRate(),
+                    (int) (stats.avgMaxFocusSeconds() / 60),
+                    stats.bestFocusSeconds() / 60,
+                    (int) (stats.pauseSeconds() / 60),
+                    stats.brokenPromiseCount(),
+                    stats.stopReasonMix(),
+                    stats.daily().stream().map(TagDailyStatResponse::from).toList()
+            );
+        }
+    }
+
+    /**
+     * 태그 일일 통계 (공부한 날만)
+     */
+    public record TagDailyStatResponse(
+            LocalDate date,
+            int studyMinutes,
+            int sessionCount,
+            int successCount,
+            int bestFocusMinutes
+    ) {
+        public static TagDailyStatResponse from(TagStats.Daily daily) {
+            return new TagDailyStatResponse(
+                    daily.date(),
+                    daily.studySeconds() / 60,
+                    daily.sessionCount(),
+                    daily.successCount(),
+                    daily.bestFocusSeconds() / 60
+            );
+        }
     }
-}
\ No newline at end of file
+}
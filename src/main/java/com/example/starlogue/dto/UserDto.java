@@ -2,9 +2,15 @@ package com.example.starlogue.dto;
 
 import com.example.starlogue.domain.User;
 import com.example.starlogue.domain.enums.AuthProvider;
+import com.example.starlogue.service.UserProfile;
+import com.example.starlogue.service.UserService;
+import com.example.starlogue.service.migration.HistoryImportService;
+import com.example.starlogue.service.ranking.LeaderboardService;
+import com.example.starlogue.service.ranking.ScoreRanking;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -51,6 +57,18 @@ public class UserDto {
                     user.getCreatedAt()
             );
         }
+
+        public static UserResponse from(UserProfile profile) {
+            return new UserResponse(
+                    profile.id(),
+                    profile.email(),
+                    profile.nickname(),
+                    profile.profileImageUrl(),
+                    profile.authProvider(),
+                    UserStatsResponse.from(profile),
+                    profile.createdAt()
+            );
+        }
     }
 
     /**
@@ -72,6 +90,16 @@ public class UserDto {
                     user.getTotalBlackHoles()
             );
         }
+
+        public static UserStatsResponse from(UserProfile profile) {
+            return new UserStatsResponse(
+                    profile.totalStudyMinutes(),
+                    profile.currentStreak(),
+                    profile.longestStreak(),
+                    profile.totalStars(),
+                    profile.totalBlackHoles()
+            );
+        }
     }
 
     /**
@@ -94,4 +122,82 @@ public class UserDto {
             );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 내 랭킹 응답
+     */
+    public record MyRankingResponse(
+            RankResponse streak,
+            RankResponse studyTime
+    ) {
+        public static MyRankingResponse from(LeaderboardService.MyRanking ranking) {
+            return new MyRankingResponse(
+                    RankResponse.from(ranking.streak()),
+                    RankResponse.from(ranking.studyTime())
+            );
+        }
+    }
+
+    /**
+     * 순위 정보 (rank: 동점자 공동 순위, topPercent: 상위 %)
+     */
+    public record RankResponse(
+            int rank,
+            long score,
+            int totalUsers,
+            double topPercent
+    ) {
+        public static RankResponse from(ScoreRanking.Rank rank) {
+            return new RankResponse(
+                    rank.rank(),
+                    rank.score(),
+                    rank.total(),
+                    rank.topPercent()
+            );
+        }
+    }
+
+    /**
+     * 기간별 랭킹 항목
+     */
+    public record WindowRankingResponse(
+            int rank,
+            UUID id,
+            String nickname,
+            String profileImageUrl,
+            int studyMinutes
+    ) {
+        public static WindowRankingResponse of(int rank, UserService.WindowRanking ranking) {
+            return new WindowRankingResponse(
+                    rank,
+                    ranking.user().getId(),
+                    ranking.user().getNickname(),
+                    ranking.user().getProfileImageUrl(),
+                    (int) (ranking.studySeconds() / 60)
+            );
+        }
+    }
+
+    /**
+     * 기록 가져오기 결과
+     */
+    public record ImportResponse(
+            int sessionCount,
+            int stopEventCount,
+            int dayCount,
+            LocalDate firstDate,
+            LocalDate lastDate,
+            int unknownTagCount
+    ) {
+        public static ImportResponse from(HistoryImportService.ImportResult result) {
+            return new ImportResponse(
+                    result.sessionCount(),
+                    result.stopEventCount(),
+                    result.dayCount(),
+                    result.firstDate(),
+                    result.lastDate(),
+                    result.unknownTagCount()
+            );
+        }
+    }
+}
@@ -5,10 +5,12 @@ import com.example.starlogue.domain.enums.RecordType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +25,19 @@ public interface DailyRecordRepository extends JpaRepository<DailyRecord, UUID>
     // 오늘 기록 존재 여부
     boolean existsByUserIdAndRecordDate(UUID userId, LocalDate recordDate);
 
+    // 기록이 없을 때만 생성 (조회 없이 한 번에, 동시 요청에도 1건만 생성)
+    @Modifying
+    @Query(value = "INSERT INTO daily_records (id, user_id, record_date, record_type, " +
+            "total_study_minutes, brightness, size, streak_day, is_streak_start, " +
+            "session_count, success_session_count, failed_session_count, " +
+            "max_focus_minutes, has_supernova, version, created_at, updated_at) " +
+            "VALUES (:id, :userId, :recordDate, 'PENDING', 0, 0, 0, 0, false, 0, 0, 0, 0, false, 0, :now, :now) " +
+            "ON CONFLICT (user_id, record_date) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("userId") UUID userId,
+                       @Param("recordDate") LocalDate recordDate,
+                       @Param("now") LocalDateTime now);
+
     // === 기간 조회 (공부 은하수 시각화) ===
 
     // 기간 내 기록들 (날짜 내림차순)
@@ -42,6 +57,27 @@ public interface DailyRecordRepository extends JpaRepository<DailyRecord, UUID>
     // 페이징 조회
     Page<DailyRecord> findByUserIdOrderByRecordDateDesc(UUID userId, Pageable pageable);
 
+    // 히스토리 첫 페이지 (keyset, 1:1 연관 함께 조회)
+    @Query("SELECT dr FROM DailyRecord dr " +
+            "LEFT JOIN FETCH dr.darkHistory " +
+            "LEFT JOIN FETCH dr.highlightReport " +
+            "WHERE dr.user.id = :userId " +
+            "ORDER BY dr.recordDate DESC, dr.id DESC LIMIT :limit")
+    List<DailyRecord> findHistoryFirst(@Param("userId") UUID userId,
+                                       @Param("limit") int limit);
+
+    // 히스토리 다음 페이지 ((recordDate, id) 커서 이후)
+    @Query("SELECT dr FROM DailyRecord dr " +
+            "LEFT JOIN FETCH dr.darkHistory " +
+            "LEFT JOIN FETCH dr.highlightReport " +
+            "WHERE dr.user.id = :userId " +
+            "AND (dr.recordDate < :recordDate OR (dr.recordDate = :recordDate AND dr.id < :id)) " +
+            "ORDER BY dr.recordDate DESC, dr.id DESC LIMIT :limit")
+    List<DailyRecord> findHistoryAfter(@Param("userId") UUID userId,
+                                       @Param("recordDate") LocalDate recordDate,
+                                       @Param("id") UUID id,
+                                       @Param("limit") int limit);
+
     // === 타입별 조회 ===
 
     // 별(성공) 기록만
@@ -108,4 +144,16 @@ public interface DailyRecordRepository extends JpaRepository<DailyRecord, UUID>
     @Query("SELECT dr FROM DailyRecord dr WHERE dr.recordType = 'PENDING' " +
             "AND dr.recordDate < :today")
     List<DailyRecord> findPendingRecords(@Param("today") LocalDate today);
-}
\ No newline at end of file
+
+    // 사용자의 가장 이른 기록 날짜 (기록 가져오기 기준선)
+    @Query("SELECT MIN(dr.recordDate) FROM DailyRecord dr WHERE dr.user.id = :userId")
+    LocalDate findFirstRecordDate(@Param("userId") UUID userId);
+
+    // 흑역사가 없는 블랙홀 기록 (id, 총 공부 시간) - 가져온 기록의 흑역사 일괄 생성용
+    @Query("SELECT dr.id, dr.totalStudyMinutes FROM DailyRecord dr " +
+            "WHERE dr.user.id = :userId AND dr.recordDate < :before AND dr.recordType = 'BLACK_HOLE' " +
+            "AND NOT EXISTS (SELECT 1 FROM DarkHistory dh WHERE dh.dailyRecord = dr) " +
+            "ORDER BY dr.recordDate")
+    List<Object[]> findBlackHolesWithoutDarkHistory(@Param("userId") UUID userId,
+                                                   @Param("before") LocalDate before);
+}
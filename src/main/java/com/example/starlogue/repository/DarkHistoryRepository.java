@@ -9,42 +9,94 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface DarkHistoryRepository extends JpaRepository<DarkHistory, UUID> {
 
+    // 단건 조회 (DTO 변환용 fetch join)
+    @Query("SELECT dh FROM DarkHistory dh " +
+            "JOIN FETCH dh.dailyRecord " +
+            "WHERE dh.id = :id")
+    Optional<DarkHistory> findByIdWithRecord(@Param("id") UUID id);
+
     // DailyRecord ID로 조회
     Optional<DarkHistory> findByDailyRecordId(UUID dailyRecordId);
 
     // 사용자의 모든 흑역사 (최신순)
     @Query("SELECT dh FROM DarkHistory dh " +
-            "JOIN dh.dailyRecord dr " +
+            "JOIN FETCH dh.dailyRecord dr " +
             "WHERE dr.user.id = :userId " +
             "ORDER BY dr.recordDate DESC")
     List<DarkHistory> findByUserId(@Param("userId") UUID userId);
 
     // 페이징 조회
-    @Query("SELECT dh FROM DarkHistory dh " +
-            "JOIN dh.dailyRecord dr " +
+    @Query(value = "SELECT dh FROM DarkHistory dh " +
+            "JOIN FETCH dh.dailyRecord dr " +
             "WHERE dr.user.id = :userId " +
-            "ORDER BY dr.recordDate DESC")
+            "ORDER BY dr.recordDate DESC",
+            countQuery = "SELECT COUNT(dh) FROM DarkHistory dh WHERE dh.dailyRecord.user.id = :userId")
     Page<DarkHistory> findByUserIdPaged(@Param("userId") UUID userId, Pageable pageable);
 
+    // 커서 페이징 첫 페이지 (keyset)
+    @Query("SELECT dh FROM DarkHistory dh " +
+            "JOIN FETCH dh.dailyRecord dr " +
+            "WHERE dr.user.id = :userId " +
+            "ORDER BY dr.recordDate DESC, dh.id DESC LIMIT :limit")
+    List<DarkHistory> findHistoryFirst(@Param("userId") UUID userId,
+                                       @Param("limit") int limit);
+
+    // 커서 페이징 다음 페이지 ((recordDate, id) 커서 이후)
+    @Query("SELECT dh FROM DarkHistory dh " +
+            "JOIN FETCH dh.dailyRecord dr " +
+            "WHERE dr.user.id = :userId " +
+            "AND (dr.recordDate < :recordDate OR (dr.recordDate = :recordDate AND dh.id < :id)) " +
+            "ORDER BY dr.recordDate DESC, dh.id DESC LIMIT :limit")
+    List<DarkHistory> findHistoryAfter(@Param("userId") UUID userId,
+                                       @Param("recordDate") LocalDate recordDate,
+                                       @Param("id") UUID id,
+                                       @Param("limit") int limit);
+
     // 아직 확인하지 않은 흑역사
     @Query("SELECT dh FROM DarkHistory dh " +
-            "JOIN dh.dailyRecord dr " +
+            "JOIN FETCH dh.dailyRecord dr " +
             "WHERE dr.user.id = :userId AND dh.isAcknowledged = false " +
             "ORDER BY dr.recordDate DESC")
     List<DarkHistory> findUnacknowledged(@Param("userId") UUID userId);
 
     // 공개된 흑역사 (다른 사용자들에게 공유)
-    @Query("SELECT dh FROM DarkHistory dh " +
+    @Query(value = "SELECT dh FROM DarkHistory dh " +
+            "JOIN FETCH dh.dailyRecord dr " +
+            "JOIN FETCH dr.user " +
             "WHERE dh.isPublic = true " +
-            "ORDER BY dh.viewCount DESC")
+            "ORDER BY dh.viewCount DESC",
+            countQuery = "SELECT COUNT(dh) FROM DarkHistory dh WHERE dh.isPublic = true")
     Page<DarkHistory> findPublicDarkHistories(Pageable pageable);
 
+    // 공개 흑역사 수 (스냅샷이 잘렸을 때 오프셋 페이지 전체 건수)
+    long countByIsPublicTrue();
+
+    // 공개 피드 첫 구간 (인기순, 스냅샷 적재용)
+    @Query("SELECT dh FROM DarkHistory dh " +
+            "JOIN FETCH dh.dailyRecord dr " +
+            "JOIN FETCH dr.user " +
+            "WHERE dh.isPublic = true " +
+            "ORDER BY dh.viewCount DESC, dh.id ASC LIMIT :limit")
+    List<DarkHistory> findPublicFeedTop(@Param("limit") int limit);
+
+    // 공개 피드 keyset 조회 ((viewCount, id) 커서 이후)
+    @Query("SELECT dh FROM DarkHistory dh " +
+            "JOIN FETCH dh.dailyRecord dr " +
+            "JOIN FETCH dr.user " +
+            "WHERE dh.isPublic = true " +
+            "AND (dh.viewCount < :viewCount OR (dh.viewCount = :viewCount AND dh.id > :id)) " +
+            "ORDER BY dh.viewCount DESC, dh.id ASC LIMIT :limit")
+    List<DarkHistory> findPublicFeedAfter(@Param("viewCount") int viewCount,
+                                          @Param("id") UUID id,
+                                          @Param("limit") int limit);
+
     // 풍자 레벨별 조회
     @Query("SELECT dh FROM DarkHistory dh " +
             "JOIN dh.dailyRecord dr " +
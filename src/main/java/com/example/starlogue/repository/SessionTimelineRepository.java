@@ -0,0 +1,16 @@
+package com.example.starlogue.repository;
+
+import com.example.starlogue.domain.SessionTimeline;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SessionTimelineRepository extends JpaRepository<SessionTimeline, UUID> {
+
+    // 세션의 인코딩된 시계열
+    @Query("SELECT t.data FROM SessionTimeline t WHERE t.session.id = :sessionId")
+    Optional<byte[]> findDataBySessionId(@Param("sessionId") UUID sessionId);
+}
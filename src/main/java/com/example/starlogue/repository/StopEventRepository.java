@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -51,4 +52,16 @@ public interface StopEventRepository extends JpaRepository<StopEvent, UUID> {
     @Query("SELECT se FROM StopEvent se WHERE se.resumedAt IS NULL " +
             "AND se.stoppedAt < :threshold")
     List<StopEvent> findStaleStopEvents(@Param("threshold") LocalDateTime threshold);
-}
\ No newline at end of file
+
+    // 기록별 중단 이벤트 집계 (dailyRecordId, stopCount, distractionCount, maxSeverity)
+    // - maxSeverity: 약속 어김 중 초과 시간 / 예상 시간 의 최댓값 (StopEvent.getBrokenPromiseSeverity 와 동일)
+    @Query("SELECT s.dailyRecord.id, COUNT(se), " +
+            "SUM(CASE WHEN se.reason = 'DISTRACTION' THEN 1 ELSE 0 END), " +
+            "MAX(CASE WHEN se.isBrokenPromise = true AND se.expectedMinutes > 0 " +
+            "THEN (se.actualPauseSeconds - se.expectedMinutes * 60) * 1.0 / (se.expectedMinutes * 60) " +
+            "ELSE 0.0 END) " +
+            "FROM StopEvent se JOIN se.session s " +
+            "WHERE s.dailyRecord.id IN :recordIds " +
+            "GROUP BY s.dailyRecord.id")
+    List<Object[]> summarizeStopEventsByRecordIds(@Param("recordIds") Collection<UUID> recordIds);
+}
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,8 +48,10 @@ public interface StudySessionRepository extends JpaRepository<StudySession, UUID
 
     // === 기간별 세션 조회 ===
 
-    // 특정 날짜의 세션들
-    @Query("SELECT s FROM StudySession s WHERE s.user.id = :userId " +
+    // 특정 날짜의 세션들 (태그 fetch join - DTO 변환용)
+    @Query("SELECT s FROM StudySession s " +
+            "LEFT JOIN FETCH s.tag " +
+            "WHERE s.user.id = :userId " +
             "AND DATE(s.startedAt) = :date ORDER BY s.startedAt ASC")
     List<StudySession> findByUserIdAndDate(@Param("userId") UUID userId,
                                            @Param("date") LocalDate date);
@@ -60,8 +63,31 @@ public interface StudySessionRepository extends JpaRepository<StudySession, UUID
                                              @Param("start") LocalDateTime start,
                                              @Param("end") LocalDateTime end);
 
-    // 페이징 처리된 세션 목록
-    Page<StudySession> findByUserIdOrderByStartedAtDesc(UUID userId, Pageable pageable);
+    // 페이징 처리된 세션 목록 (태그 fetch join - DTO 변환용)
+    @Query(value = "SELECT s FROM StudySession s " +
+            "LEFT JOIN FETCH s.tag " +
+            "WHERE s.user.id = :userId ORDER BY s.startedAt DESC",
+            countQuery = "SELECT COUNT(s) FROM StudySession s WHERE s.user.id = :userId")
+    Page<StudySession> findByUserIdOrderByStartedAtDesc(@Param("userId") UUID userId, Pageable pageable);
+
+    // 세션 히스토리 첫 페이지 (keyset)
+    @Query("SELECT s FROM StudySession s " +
+            "LEFT JOIN FETCH s.tag " +
+            "WHERE s.user.id = :userId " +
+            "ORDER BY s.startedAt DESC, s.id DESC LIMIT :limit")
+    List<StudySession> findHistoryFirst(@Param("userId") UUID userId,
+                                        @Param("limit") int limit);
+
+    // 세션 히스토리 다음 페이지 ((startedAt, id) 커서 이후)
+    @Query("SELECT s FROM StudySession s " +
+            "LEFT JOIN FETCH s.tag " +
+            "WHERE s.user.id = :userId " +
+            "AND (s.startedAt < :startedAt OR (s.startedAt = :startedAt AND s.id < :id)) " +
+            "ORDER BY s.startedAt DESC, s.id DESC LIMIT :limit")
+    List<StudySession> findHistoryAfter(@Param("userId") UUID userId,
+                                        @Param("startedAt") LocalDateTime startedAt,
+                                        @Param("id") UUID id,
+                                        @Param("limit") int limit);
 
     // === 통계용 쿼리 ===
 
@@ -104,10 +130,44 @@ public interface StudySessionRepository extends JpaRepository<StudySession, UUID
     List<StudySession> findUnlinkedSessionsByDate(@Param("userId") UUID userId,
                                                   @Param("date") LocalDate date);
 
+    // 사용자의 가장 이른 세션 시작 시각 (기록 가져오기 기준선)
+    @Query("SELECT MIN(s.startedAt) FROM StudySession s WHERE s.user.id = :userId")
+    LocalDateTime findFirstStartedAt(@Param("userId") UUID userId);
+
     // === 장기 미활동 세션 처리 ===
 
     // N시간 이상 진행 중인 세션 (자동 종료 대상)
     @Query("SELECT s FROM StudySession s WHERE s.status = 'IN_PROGRESS' " +
             "AND s.startedAt < :threshold")
     List<StudySession> findStaleInProgressSessions(@Param("threshold") LocalDateTime threshold);
+
+    // === 기간별 리더보드 적재 ===
+
+    // 일일 기록에 반영된 세션의 사용자·날짜별 공부 시간(초) (userId, recordDate, seconds)
+    @Query("SELECT s.user.id, s.dailyRecord.recordDate, SUM(s.totalStudySeconds) " +
+            "FROM StudySession s " +
+            "WHERE s.dailyRecord.recordDate >= :since " +
+            "GROUP BY s.user.id, s.dailyRecord.recordDate")
+    List<Object[]> sumStudySecondsByUserAndDateSince(@Param("since") LocalDate since);
+
+    // 오늘 시작해 진행 중인 세션의 누적 공부 시간(초) (userId, seconds)
+    @Query("SELECT s.user.id, s.totalStudySeconds FROM StudySession s " +
+            "WHERE s.status = 'IN_PROGRESS' AND s.startedAt >= :since")
+    List<Object[]> findInProgressStudySecondsSince(@Param("since") LocalDateTime since);
+
+    // === 일일 행동 요약 (흑역사 / 하이라이트 리포트) ===
+
+    // 기록별 세션 집계 (dailyRecordId, sessionCount, totalPauseSeconds, brokenPromiseCount)
+    @Query("SELECT s.dailyRecord.id, COUNT(s), COALESCE(SUM(s.totalPauseSeconds), 0), " +
+            "COALESCE(SUM(s.brokenPromiseCount), 0) " +
+            "FROM StudySession s " +
+            "WHERE s.dailyRecord.id IN :recordIds " +
+            "GROUP BY s.dailyRecord.id")
+    List<Object[]> summarizeSessionsByRecordIds(@Param("recordIds") Collection<UUID> recordIds);
+
+    // 기록별 다짐 (dailyRecordId, pledgeContent) - 세션 시작 순
+    @Query("SELECT s.dailyRecord.id, s.pledge.content FROM StudySession s " +
+            "WHERE s.dailyRecord.id IN :recordIds AND s.pledge.content IS NOT NULL " +
+            "ORDER BY s.startedAt ASC")
+    List<Object[]> findPledgesByRecordIds(@Param("recordIds") Collection<UUID> recordIds);
 }
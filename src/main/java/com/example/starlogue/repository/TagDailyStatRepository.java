@@ -0,0 +1,66 @@
+package com.example.starlogue.repository;
+
+import com.example.starlogue.domain.TagDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TagDailyStatRepository extends JpaRepository<TagDailyStat, UUID> {
+
+    // 세션 한 건을 (태그, 날짜) 버킷에 누적 (없으면 생성, 동시 요청에도 1행)
+    @Modifying
+    @Query(value = "INSERT INTO tag_daily_stats (id, tag_id, user_id, stat_date, study_seconds, session_count, " +
+            "success_count, focus_seconds_sum, best_focus_seconds, pause_seconds, broken_promise_count, " +
+            "bathroom_stop_count, interruption_stop_count, rest_stop_count, distraction_stop_count, " +
+            "created_at, updated_at) " +
+            "VALUES (:id, :tagId, :userId, :statDate, :studySeconds, 1, :success, :maxFocusSeconds, " +
+            ":maxFocusSeconds, :pauseSeconds, :brokenPromiseCount, :bathroomStops, :interruptionStops, " +
+            ":restStops, :distractionStops, :now, :now) " +
+            "ON CONFLICT (tag_id, stat_date) DO UPDATE SET " +
+            "study_seconds = tag_daily_stats.study_seconds + EXCLUDED.study_seconds, " +
+            "session_count = tag_daily_stats.session_count + 1, " +
+            "success_count = tag_daily_stats.success_count + EXCLUDED.success_count, " +
+            "focus_seconds_sum = tag_daily_stats.focus_seconds_sum + EXCLUDED.focus_seconds_sum, " +
+            "best_focus_seconds = GREATEST(tag_daily_stats.best_focus_seconds, EXCLUDED.best_focus_seconds), " +
+            "pause_seconds = tag_daily_stats.pause_seconds + EXCLUDED.pause_seconds, " +
+            "broken_promise_count = tag_daily_stats.broken_promise_count + EXCLUDED.broken_promise_count, " +
+            "bathroom_stop_count = tag_daily_stats.bathroom_stop_count + EXCLUDED.bathroom_stop_count, " +
+            "interruption_stop_count = tag_daily_stats.interruption_stop_count + EXCLUDED.interruption_stop_count, " +
+            "rest_stop_count = tag_daily_stats.rest_stop_count + EXCLUDED.rest_stop_count, " +
+            "distraction_stop_count = tag_daily_stats.distraction_stop_count + EXCLUDED.distraction_stop_count, " +
+            "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int upsertSession(@Param("id") UUID id,
+                      @Param("tagId") UUID tagId,
+                      @Param("userId") UUID userId,
+                      @Param("statDate") LocalDate statDate,
+                      @Param("studySeconds") int studySeconds,
+                      @Param("success") int success,
+                      @Param("maxFocusSeconds") int maxFocusSeconds,
+                      @Param("pauseSeconds") int pauseSeconds,
+                      @Param("brokenPromiseCount") int brokenPromiseCount,
+                      @Param("bathroomStops") int bathroomStops,
+                      @Param("interruptionStops") int interruptionStops,
+                      @Param("restStops") int restStops,
+                      @Param("distractionStops") int distractionStops,
+                      @Param("now") LocalDateTime now);
+
+    // 기간 내 태그 버킷 (날짜순)
+    @Query("SELECT s FROM TagDailyStat s WHERE s.tag.id = :tagId " +
+            "AND s.statDate BETWEEN :from AND :to ORDER BY s.statDate")
+    List<TagDailyStat> findByTagAndPeriod(@Param("tagId") UUID tagId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    // 그날 가장 오래 공부한 태그의 색상 (DailyRecord 대표 색상)
+    @Query(value = "SELECT t.color_hex FROM tag_daily_stats s JOIN tags t ON t.id = s.tag_id " +
+            "WHERE s.user_id = :userId AND s.stat_date = :date " +
+            "ORDER BY s.study_seconds DESC, s.session_count DESC LIMIT 1", nativeQuery = true)
+    Optional<String> findPrimaryColorHex(@Param("userId") UUID userId, @Param("date") LocalDate date);
+}
@@ -19,11 +19,7 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     boolean existsByNickname(String nickname);
 
-    // Streak 랭킹 (상위 N명)
-    @Query("SELECT u FROM User u ORDER BY u.currentStreak DESC LIMIT :limit")
-    java.util.List<User> findTopByCurrentStreak(@Param("limit") int limit);
-
-    // 총 공부시간 랭킹
-    @Query("SELECT u FROM User u ORDER BY u.totalStudyMinutes DESC LIMIT :limit")
-    java.util.List<User> findTopByTotalStudyMinutes(@Param("limit") int limit);
+    // 리더보드 적재용 점수 스냅샷 (id, currentStreak, totalStudyMinutes)
+    @Query("SELECT u.id, u.currentStreak, u.totalStudyMinutes FROM User u")
+    java.util.List<Object[]> findAllRankingScores();
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.starlogue.service;
+
+/**
+ * 이미 활성 세션(진행 중 / 일시 중단)이 있어 새 세션을 시작할 수 없음
+ * - IllegalStateException 하위 타입이므로 API 응답은 기존과 같은 409
+ */
+public class ActiveSessionConflictException extends IllegalStateException {
+
+    public ActiveSessionConflictException() {
+        super("이미 진행 중인 세션이 있습니다. 기존 세션을 종료하거나 현재 세션을 계속하세요.");
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.starlogue.service;
+
+import com.example.starlogue.repository.StopEventRepository;
+import com.example.starlogue.repository.StudySessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 일일 행동 요약 조회
+ * - 기록 수와 상관없이 집계 쿼리 3번 (세션 집계 / 중단 이벤트 집계 / 다짐)
+ * - 세션마다 중단 이벤트를 따로 조회하던 N+1 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DailyBehaviorService {
+
+    private final StudySessionRepository sessionRepository;
+    private final StopEventRepository stopEventRepository;
+
+    /**
+     * 단일 기록 요약
+     */
+    public DailyBehaviorSummary getSummary(UUID dailyRecordId) {
+        return getSummaries(List.of(dailyRecordId)).get(dailyRecordId);
+    }
+
+    /**
+     * 여러 기록 요약 (요청 순서 유지, 세션이 없는 기록은 빈 요약)
+     */
+    public Map<UUID, DailyBehaviorSummary> getSummaries(Collection<UUID> dailyRecordIds) {
+        Map<UUID, DailyBehaviorSummary> result = new LinkedHashMap<>();
+        if (dailyRecordIds.isEmpty()) {
+            return result;
+        }
+
+        Map<UUID, Object[]> sessionStats = indexByRecordId(sessionRepository.summarizeSessionsByRecordIds(dailyRecordIds));
+        Map<UUID, Object[]> stopStats = indexByRecordId(stopEventRepository.summarizeStopEventsByRecordIds(dailyRecordIds));
+
+        // 시작 순으로 정렬되어 있으므로 기록별 첫 다짐만 사용
+        Map<UUID, String> pledges = new HashMap<>();
+        for (Object[] row : sessionRepository.findPledgesByRecordIds(dailyRecordIds)) {
+            pledges.putIfAbsent((UUID) row[0], (String) row[1]);
+        }
+
+        for (UUID id : dailyRecordIds) {
+            Object[] sessions = sessionStats.get(id);
+            Object[] stops = stopStats.get(id);
+            if (sessions == null) {
+                result.put(id, DailyBehaviorSummary.empty(id));
+                continue;
+            }
+
+            result.put(id, new DailyBehaviorSummary(
+                    id,
+                    pledges.get(id),
+                    toInt(sessions[1]),
+                    stops != null ? toInt(stops[1]) : 0,
+                    toInt(sessions[3]),
+                    stops != null ? toInt(stops[2]) : 0,
+                    stops != null && stops[3] != null ? ((Number) stops[3]).doubleValue() : 0.0,
+                    ((Number) sessions[2]).longValue()
+            ));
+        }
+        return result;
+    }
+
+    // === Private Methods ===
+
+    private static Map<UUID, Object[]> indexByRecordId(List<Object[]> rows) {
+        Map<UUID, Object[]> indexed = new HashMap<>();
+        for (Object[] row : rows) {
+            indexed.put((UUID) row[0], row);
+        }
+        return indexed;
+    }
+
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+}
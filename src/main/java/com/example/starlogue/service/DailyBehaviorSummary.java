@@ -0,0 +1,27 @@
+package com.example.starlogue.service;
+
+import java.util.UUID;
+
+/**
+ * 하루치 공부 행동 요약 (DailyRecord 단위)
+ * - 흑역사 생성과 하이라이트 리포트가 함께 사용
+ * - 세션/중단 이벤트를 엔티티로 올리지 않고 집계 쿼리 결과로만 구성
+ */
+public record DailyBehaviorSummary(
+        UUID dailyRecordId,
+        String pledge,            // 첫 세션의 다짐 (없으면 null)
+        int sessionCount,
+        int stopCount,
+        int brokenPromiseCount,
+        int distractionCount,
+        double maxSeverity,       // 가장 심각한 약속 어김 정도 (초과 시간 / 예상 시간)
+        long totalPauseSeconds
+) {
+    public static DailyBehaviorSummary empty(UUID dailyRecordId) {
+        return new DailyBehaviorSummary(dailyRecordId, null, 0, 0, 0, 0, 0.0, 0);
+    }
+
+    public int totalPauseMinutes() {
+        return (int) (totalPauseSeconds / 60);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.starlogue.service;
 
+import com.example.starlogue.config.datasource.Workload;
+import com.example.starlogue.config.datasource.WorkloadPool;
 import com.example.starlogue.domain.DailyRecord;
 import com.example.starlogue.domain.HighlightReport;
 import com.example.starlogue.domain.StudySession;
@@ -9,6 +11,8 @@ import com.example.starlogue.repository.DailyRecordRepository;
 import com.example.starlogue.repository.HighlightReportRepository;
 import com.example.starlogue.repository.StudySessionRepository;
 import com.example.starlogue.repository.UserRepository;
+import com.example.starlogue.service.stats.TagStatsService;
+import com.github.f4b6a3.uuid.UuidCreator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -17,12 +21,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.example.starlogue.dto.CursorDto.Cursor;
+import static com.example.starlogue.dto.CursorDto.CursorResponse;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -34,6 +42,8 @@ public class DailyRecordService {
     private final StudySessionRepository sessionRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final DailyBehaviorService dailyBehaviorService;
+    private final TagStatsService tagStatsService;
 
     // === 일일 기록 생성/조회 ===
 
@@ -47,6 +57,16 @@ public class DailyRecordService {
                 .orElseGet(() -> createDailyRecord(userId, today));
     }
 
+    /**
+     * 오늘 DailyRecord 보장 (세션 시작 fast path)
+     * - 엔티티를 읽지 않고 INSERT ... ON CONFLICT DO NOTHING 한 번으로 처리
+     */
+    @Transactional
+    public void ensureTodayRecord(UUID userId) {
+        dailyRecordRepository.insertIfAbsent(
+                UuidCreator.getTimeOrderedEpoch(), userId, LocalDate.now(), LocalDateTime.now());
+    }
+
     /**
      * 특정 날짜의 DailyRecord 생성
      */
@@ -106,6 +126,14 @@ public class DailyRecordService {
         record.addSessionResult(session);
         session.linkToDailyRecord(record);
 
+        // 태그별 일일 집계 + 대표 색상 (그날 가장 오래 공부한 태그)
+        if (session.getTag() != null) {
+            tagStatsService.recordSession(session, sessionDate);
+            tagStatsService.findPrimaryColorHex(session.getUser().getId(), sessionDate)
+                    .ifPresent(record::updatePrimaryColor);
+        }
+        dailyRecordRepository.save(record);  // 리더보드 이벤트 발행
+
         log.info("세션 결과 반영 - recordId: {}, sessionId: {}, 성공: {}",
                 record.getId(), sessionId, session.getIsSuccess());
     }
@@ -172,6 +200,7 @@ public class DailyRecordService {
      * PENDING 상태의 과거 기록 일괄 정산 (배치)
      */
     @Transactional
+    @WorkloadPool(Workload.BATCH)
     public int finalizePendingRecords() {
         LocalDate today = LocalDate.now();
         List<DailyRecord> pendingRecords = dailyRecordRepository.findPendingRecords(today);
@@ -212,17 +241,17 @@ public class DailyRecordService {
         // 통계 설정
         int totalStudy = record.getTotalStudyMinutes();
         int sessionCount = record.getSessionCount();
-        // 총 중단 시간은 세션들에서 합산 (별도 계산 필요)
-        int totalPause = calculateTotalPauseMinutes(record);
+        // 총 중단 시간은 세션 집계 쿼리로 합산
+        int totalPause = dailyBehaviorService.getSummary(record.getId()).totalPauseMinutes();
 
         report.setStatistics(totalStudy, totalPause, sessionCount);
 
-        // MVP 구간 설정
-        if (record.getMaxFocusMinutes() > 0) {
+        // MVP 구간 설정 (세션 종료 때마다 누적 계산된 최장 무중단 구간)
+        if (record.getMvpStartedAt() != null) {
             report.setMvpSection(
                     record.getMvpTimeRange(),
-                    record.getMaxFocusMinutes(),
-                    String.format("%d분 무중단 집중의 영광", record.getMaxFocusMinutes())
+                    record.getMvpMinutes(),
+                    String.format("%d분 무중단 집중의 영광", record.getMvpMinutes())
             );
         }
 
@@ -260,6 +289,20 @@ public class DailyRecordService {
         return dailyRecordRepository.findByUserIdOrderByRecordDateDesc(userId, pageable);
     }
 
+    /**
+     * 기록 히스토리 (커서 기반, COUNT 없음)
+     */
+    public CursorResponse<DailyRecord> getRecordHistory(UUID userId, String cursorToken, int size) {
+        List<DailyRecord> fetched;
+        if (cursorToken == null) {
+            fetched = dailyRecordRepository.findHistoryFirst(userId, size + 1);
+        } else {
+            Cursor cursor = Cursor.decode(cursorToken);
+            fetched = dailyRecordRepository.findHistoryAfter(userId, cursor.keyAsDate(), cursor.id(), size + 1);
+        }
+        return CursorResponse.fromFetched(fetched, size, r -> Cursor.of(r.getRecordDate(), r.getId()));
+    }
+
     /**
      * Streak 기록들 (별자리 연결용)
      */
@@ -286,15 +329,8 @@ public class DailyRecordService {
     /**
      * 월별 통계
      */
+    @WorkloadPool(Workload.ANALYTICS)
     public List<Object[]> getMonthlyStatistics(UUID userId) {
         return dailyRecordRepository.getMonthlyStatistics(userId);
     }
-
-    // === Private Methods ===
-
-    private int calculateTotalPauseMinutes(DailyRecord record) {
-        return record.getSessions().stream()
-                .mapToInt(s -> s.getTotalPauseSeconds() / 60)
-                .sum();
-    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.starlogue.service;
 
 import com.example.starlogue.domain.enums.SatireLevel;
+import com.example.starlogue.service.concurrency.AiCallLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.prompt.PromptTemplate;
@@ -20,9 +21,12 @@ import java.util.Map;
 public class DarkHistoryAiService {
 
     private final ChatClient chatClient;
+    private final AiCallLimiter aiCallLimiter;
 
-    public DarkHistoryAiService(@Qualifier("darkHistoryChatClient") ChatClient chatClient) {
+    public DarkHistoryAiService(@Qualifier("darkHistoryChatClient") ChatClient chatClient,
+                                AiCallLimiter aiCallLimiter) {
         this.chatClient = chatClient;
+        this.aiCallLimiter = aiCallLimiter;
     }
 
     /**
@@ -35,10 +39,10 @@ public class DarkHistoryAiService {
         String prompt = buildPrompt(context);
 
         try {
-            String response = chatClient.prompt()
+            String response = aiCallLimiter.call("dark-history", () -> chatClient.prompt()
                     .user(prompt)
                     .call()
-                    .content();
+                    .content());
 
             // 길이 검증 및 조정
             String validated = validateAndTrim(response);
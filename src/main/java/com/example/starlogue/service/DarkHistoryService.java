@@ -2,100 +2,188 @@ package com.example.starlogue.service;
 
 import com.example.starlogue.domain.DailyRecord;
 import com.example.starlogue.domain.DarkHistory;
-import com.example.starlogue.domain.StopEvent;
-import com.example.starlogue.domain.StudySession;
 import com.example.starlogue.domain.enums.SatireLevel;
 import com.example.starlogue.repository.DailyRecordRepository;
 import com.example.starlogue.repository.DarkHistoryRepository;
-import com.example.starlogue.repository.StopEventRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.starlogue.service.counter.DarkHistoryViewCounter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.example.starlogue.dto.CursorDto.Cursor;
+import static com.example.starlogue.dto.CursorDto.CursorResponse;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DarkHistoryService {
 
     private final DarkHistoryRepository darkHistoryRepository;
     private final DailyRecordRepository dailyRecordRepository;
-    private final StopEventRepository stopEventRepository;
+    private final DailyBehaviorService dailyBehaviorService;
     private final DarkHistoryAiService aiService;
+    private final DarkHistoryViewCounter viewCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
 
     @Value("${starlogue.ai.dark-history.enabled:true}")
     private boolean aiEnabled;
 
+    public DarkHistoryService(DarkHistoryRepository darkHistoryRepository,
+                              DailyRecordRepository dailyRecordRepository,
+                              DailyBehaviorService dailyBehaviorService,
+                              DarkHistoryAiService aiService,
+                              DarkHistoryViewCounter viewCounter,
+                              PlatformTransactionManager transactionManager) {
+        this.darkHistoryRepository = darkHistoryRepository;
+        this.dailyRecordRepository = dailyRecordRepository;
+        this.dailyBehaviorService = dailyBehaviorService;
+        this.aiService = aiService;
+        this.viewCounter = viewCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
     /**
      * 흑역사 생성 (실패한 DailyRecord에 대해)
+     * - 요청 경로(정산)에서 호출되므로 OLTP 풀 사용
+     * - AI 호출 동안 커넥션을 잡지 않도록 나눠 실행: 컨텍스트 수집(읽기 트랜잭션) → AI 생성(트랜잭션 밖) → 저장
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DarkHistory createDarkHistory(UUID dailyRecordId) {
-        DailyRecord record = dailyRecordRepository.findById(dailyRecordId)
-                .orElseThrow(() -> new IllegalArgumentException("기록을 찾을 수 없습니다."));
-
-        // 이미 흑역사가 있으면 반환
-        if (record.getDarkHistory() != null) {
-            return record.getDarkHistory();
+        Draft draft = readOnlyTransaction.execute(status -> {
+            DailyRecord record = dailyRecordRepository.findById(dailyRecordId)
+                    .orElseThrow(() -> new IllegalArgumentException("기록을 찾을 수 없습니다."));
+
+            // 이미 흑역사가 있으면 반환
+            if (record.getDarkHistory() != null) {
+                return new Draft(record.getDarkHistory(), null, null);
+            }
+
+            // 실패 기록인지 확인
+            if (!record.getRecordType().requiresDarkHistory()) {
+                throw new IllegalStateException("블랙홀 기록에만 흑역사를 생성할 수 있습니다.");
+            }
+
+            // 흑역사 생성에 필요한 데이터 수집 + 풍자 레벨 결정
+            DarkHistoryContextInternal context = collectContext(record);
+            return new Draft(null, context, determineSatireLevel(context));
+        });
+        if (draft.existing() != null) {
+            return draft.existing();
         }
 
-        // 실패 기록인지 확인
-        if (!record.getRecordType().requiresDarkHistory()) {
-            throw new IllegalStateException("블랙홀 기록에만 흑역사를 생성할 수 있습니다.");
-        }
+        // AI로 흑역사 콘텐츠 생성 (커넥션 없이)
+        String content = generateDarkHistoryContent(draft.context(), draft.satireLevel());
 
-        // 흑역사 생성에 필요한 데이터 수집
-        DarkHistoryContextInternal context = collectContext(record);
+        return transactionTemplate.execute(status -> {
+            DailyRecord record = dailyRecordRepository.findById(dailyRecordId)
+                    .orElseThrow(() -> new IllegalArgumentException("기록을 찾을 수 없습니다."));
 
-        // 풍자 레벨 결정
-        SatireLevel satireLevel = determineSatireLevel(context);
+            // AI 호출 중 다른 요청이 먼저 만들었으면 그것을 사용
+            if (record.getDarkHistory() != null) {
+                return record.getDarkHistory();
+            }
 
-        // AI로 흑역사 콘텐츠 생성 (현재는 임시 텍스트)
-        String content = generateDarkHistoryContent(context, satireLevel);
+            // 제목 생성
+            int sequence = darkHistoryRepository.getNextSequenceNumber(record.getUser().getId());
+            String title = DarkHistory.generateTitle(record.getUser().getId(), sequence);
 
-        // 제목 생성
-        int sequence = darkHistoryRepository.getNextSequenceNumber(record.getUser().getId());
-        String title = DarkHistory.generateTitle(record.getUser().getId(), sequence);
+            DarkHistory darkHistory = DarkHistory.builder()
+                    .dailyRecord(record)
+                    .content(content)
+                    .title(title)
+                    .originalPledge(draft.context().pledge())
+                    .failedMinutes(draft.context().studyMinutes())
+                    .brokenPromiseCount(draft.context().brokenPromiseCount())
+                    .satireLevel(draft.satireLevel())
+                    .build();
 
-        DarkHistory darkHistory = DarkHistory.builder()
-                .dailyRecord(record)
-                .content(content)
-                .title(title)
-                .originalPledge(context.pledge())
-                .failedMinutes(context.studyMinutes())
-                .brokenPromiseCount(context.brokenPromiseCount())
-                .satireLevel(satireLevel)
-                .build();
+            record.attachDarkHistory(darkHistory);
+            DarkHistory saved = darkHistoryRepository.save(darkHistory);
 
-        record.attachDarkHistory(darkHistory);
-        DarkHistory saved = darkHistoryRepository.save(darkHistory);
+            log.info("흑역사 생성 - recordId: {}, satireLevel: {}, title: {}",
+                    dailyRecordId, draft.satireLevel(), title);
 
-        log.info("흑역사 생성 - recordId: {}, satireLevel: {}, title: {}",
-                dailyRecordId, satireLevel, title);
+            return saved;
+        });
+    }
 
-        return saved;
+    /**
+     * 가져온 기록의 블랙홀 날짜에 흑역사 일괄 생성 (기록 가져오기 트랜잭션 안에서 호출)
+     * - 날짜 수만큼 AI를 부르지 않도록 템플릿 문구 사용, 행동 요약은 집계 쿼리로 한 번에
+     * - 지난 기록이므로 확인한 상태로 저장 (미확인 목록에 쌓이지 않게)
+     */
+    @Transactional
+    public int createForImportedRecords(UUID userId, LocalDate before) {
+        List<Object[]> blackHoles = dailyRecordRepository.findBlackHolesWithoutDarkHistory(userId, before);
+        if (blackHoles.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> recordIds = blackHoles.stream().map(row -> (UUID) row[0]).toList();
+        Map<UUID, DailyBehaviorSummary> summaries = dailyBehaviorService.getSummaries(recordIds);
+        int sequence = darkHistoryRepository.getNextSequenceNumber(userId);
+
+        List<DarkHistory> darkHistories = new ArrayList<>(blackHoles.size());
+        for (Object[] row : blackHoles) {
+            UUID recordId = (UUID) row[0];
+            DarkHistoryContextInternal context = toContext(summaries.get(recordId), ((Number) row[1]).intValue());
+            SatireLevel satireLevel = determineSatireLevel(context);
+
+            DarkHistory darkHistory = DarkHistory.builder()
+                    .dailyRecord(dailyRecordRepository.getReferenceById(recordId))
+                    .content(generateFallbackContent(context, satireLevel))
+                    .title(DarkHistory.generateTitle(userId, sequence++))
+                    .originalPledge(context.pledge())
+                    .failedMinutes(context.studyMinutes())
+                    .brokenPromiseCount(context.brokenPromiseCount())
+                    .satireLevel(satireLevel)
+                    .build();
+            darkHistory.acknowledge();
+            darkHistories.add(darkHistory);
+        }
+        darkHistoryRepository.saveAll(darkHistories);
+
+        log.info("가져온 기록 흑역사 생성 - userId: {}, count: {}", userId, darkHistories.size());
+        return darkHistories.size();
     }
 
     /**
      * 흑역사 조회 (블랙홀 클릭 시)
+     * - 조회수는 버퍼에 모았다가 일괄 반영 (행 갱신은 최초 확인 시에만)
      */
     @Transactional
     public DarkHistory viewDarkHistory(UUID darkHistoryId) {
-        DarkHistory darkHistory = darkHistoryRepository.findById(darkHistoryId)
+        DarkHistory darkHistory = darkHistoryRepository.findByIdWithRecord(darkHistoryId)
                 .orElseThrow(() -> new IllegalArgumentException("흑역사를 찾을 수 없습니다."));
 
-        darkHistory.view();
+        darkHistory.acknowledge();
+        viewCounter.increment(darkHistoryId);
         return darkHistory;
     }
 
+    /**
+     * 반영 대기 중인 조회수를 포함한 현재 조회수
+     */
+    public int getViewCount(DarkHistory darkHistory) {
+        return (int) (darkHistory.getViewCount() + viewCounter.pending(darkHistory.getId()));
+    }
+
     /**
      * DailyRecord ID로 흑역사 조회
      */
@@ -117,6 +205,21 @@ public class DarkHistoryService {
         return darkHistoryRepository.findByUserIdPaged(userId, pageable);
     }
 
+    /**
+     * 사용자의 흑역사 목록 (커서 기반, COUNT 없음)
+     */
+    public CursorResponse<DarkHistory> getDarkHistoryHistory(UUID userId, String cursorToken, int size) {
+        List<DarkHistory> fetched;
+        if (cursorToken == null) {
+            fetched = darkHistoryRepository.findHistoryFirst(userId, size + 1);
+        } else {
+            Cursor cursor = Cursor.decode(cursorToken);
+            fetched = darkHistoryRepository.findHistoryAfter(userId, cursor.keyAsDate(), cursor.id(), size + 1);
+        }
+        return CursorResponse.fromFetched(fetched, size,
+                dh -> Cursor.of(dh.getDailyRecord().getRecordDate(), dh.getId()));
+    }
+
     /**
      * 확인하지 않은 흑역사 목록
      */
@@ -129,7 +232,7 @@ public class DarkHistoryService {
      */
     @Transactional
     public DarkHistory togglePublic(UUID darkHistoryId) {
-        DarkHistory darkHistory = darkHistoryRepository.findById(darkHistoryId)
+        DarkHistory darkHistory = darkHistoryRepository.findByIdWithRecord(darkHistoryId)
                 .orElseThrow(() -> new IllegalArgumentException("흑역사를 찾을 수 없습니다."));
 
         darkHistory.togglePublic();
@@ -138,70 +241,54 @@ public class DarkHistoryService {
         return darkHistory;
     }
 
-    /**
-     * 공개된 흑역사 목록 (커뮤니티 피드)
-     */
-    public Page<DarkHistory> getPublicDarkHistories(Pageable pageable) {
-        return darkHistoryRepository.findPublicDarkHistories(pageable);
-    }
-
     /**
      * 흑역사 재생성 (AI 재호출)
+     * - 생성과 같이 AI 호출은 트랜잭션 밖에서 (조회 → AI → 갱신)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DarkHistory regenerateDarkHistory(UUID darkHistoryId) {
-        DarkHistory darkHistory = darkHistoryRepository.findById(darkHistoryId)
-                .orElseThrow(() -> new IllegalArgumentException("흑역사를 찾을 수 없습니다."));
+        Draft draft = readOnlyTransaction.execute(status -> {
+            DarkHistory darkHistory = findWithRecord(darkHistoryId);
+            return new Draft(null, collectContext(darkHistory.getDailyRecord()), darkHistory.getSatireLevel());
+        });
 
-        DailyRecord record = darkHistory.getDailyRecord();
-        DarkHistoryContextInternal context = collectContext(record);
+        String newContent = generateDarkHistoryContent(draft.context(), draft.satireLevel());
 
-        String newContent = generateDarkHistoryContent(context, darkHistory.getSatireLevel());
-        darkHistory.regenerate(newContent);
+        return transactionTemplate.execute(status -> {
+            DarkHistory darkHistory = findWithRecord(darkHistoryId);
+            darkHistory.regenerate(newContent);
 
-        log.info("흑역사 재생성 - id: {}", darkHistoryId);
+            log.info("흑역사 재생성 - id: {}", darkHistoryId);
 
-        return darkHistory;
+            return darkHistory;
+        });
     }
 
     // === Private Methods ===
 
+    private DarkHistory findWithRecord(UUID darkHistoryId) {
+        return darkHistoryRepository.findByIdWithRecord(darkHistoryId)
+                .orElseThrow(() -> new IllegalArgumentException("흑역사를 찾을 수 없습니다."));
+    }
+
     /**
      * 흑역사 생성에 필요한 컨텍스트 수집
+     * - 세션/중단 이벤트는 DailyBehaviorService 집계 쿼리로 한 번에 조회
      */
     private DarkHistoryContextInternal collectContext(DailyRecord record) {
-        List<StudySession> sessions = record.getSessions();
+        return toContext(dailyBehaviorService.getSummary(record.getId()), record.getTotalStudyMinutes());
+    }
 
+    private DarkHistoryContextInternal toContext(DailyBehaviorSummary summary, int studyMinutes) {
         // 다짐 수집 (첫 번째 세션의 다짐 사용)
-        String pledge = sessions.stream()
-                .filter(s -> s.getPledge() != null && s.getPledge().getContent() != null)
-                .map(s -> s.getPledge().getContent())
-                .findFirst()
-                .orElse("목표 없이 시작한 공부");
-
-        // 총 공부 시간
-        int studyMinutes = record.getTotalStudyMinutes();
-
-        // 약속 어김 횟수 계산
-        int brokenPromiseCount = sessions.stream()
-                .mapToInt(StudySession::getBrokenPromiseCount)
-                .sum();
-
-        // 가장 심각한 약속 어김 정도
-        double maxSeverity = sessions.stream()
-                .flatMap(s -> stopEventRepository.findBySessionIdAndIsBrokenPromiseTrue(s.getId()).stream())
-                .mapToDouble(StopEvent::getBrokenPromiseSeverity)
-                .max()
-                .orElse(0.0);
-
-        // 딴짓 횟수 (강한 풍자 대상)
-        long distractionCount = sessions.stream()
-                .flatMap(s -> stopEventRepository.findBySessionIdOrderByStoppedAtAsc(s.getId()).stream())
-                .filter(se -> se.getReason().name().equals("DISTRACTION"))
-                .count();
+        String pledge = summary.pledge() != null ? summary.pledge() : "목표 없이 시작한 공부";
 
         return new DarkHistoryContextInternal(
-                pledge, studyMinutes, brokenPromiseCount, maxSeverity, (int) distractionCount
+                pledge,
+                studyMinutes,
+                summary.brokenPromiseCount(),
+                summary.maxSeverity(),
+                summary.distractionCount()  // 딴짓 횟수 (강한 풍자 대상)
         );
     }
 
@@ -273,6 +360,15 @@ public class DarkHistoryService {
         );
     }
 
+    /**
+     * AI 호출 전에 트랜잭션 안에서 모은 값 (이미 있으면 existing만)
+     */
+    private record Draft(
+            DarkHistory existing,
+            DarkHistoryContextInternal context,
+            SatireLevel satireLevel
+    ) {}
+
     /**
      * 흑역사 생성 컨텍스트 (내부용)
      */
@@ -1,6 +1,7 @@
 package com.example.starlogue.service;
 
 import com.example.starlogue.domain.enums.ReportTone;
+import com.example.starlogue.service.concurrency.AiCallLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.prompt.PromptTemplate;
@@ -23,12 +24,15 @@ public class HighlightReportAiService {
 
     private final ChatClient highlightClient;
     private final ChatClient strategyClient;
+    private final AiCallLimiter aiCallLimiter;
 
     public HighlightReportAiService(
             @Qualifier("highlightReportChatClient") ChatClient highlightClient,
-            @Qualifier("strategyChatClient") ChatClient strategyClient) {
+            @Qualifier("strategyChatClient") ChatClient strategyClient,
+            AiCallLimiter aiCallLimiter) {
         this.highlightClient = highlightClient;
         this.strategyClient = strategyClient;
+        this.aiCallLimiter = aiCallLimiter;
     }
 
     /**
@@ -41,10 +45,10 @@ public class HighlightReportAiService {
         String prompt = buildSummaryPrompt(context);
 
         try {
-            String response = highlightClient.prompt()
+            String response = aiCallLimiter.call("highlight.summary", () -> highlightClient.prompt()
                     .user(prompt)
                     .call()
-                    .content();
+                    .content());
 
             log.info("하이라이트 요약 생성 완료 - date: {}, tone: {}",
                     context.date(), context.tone());
@@ -67,10 +71,10 @@ public class HighlightReportAiService {
         String prompt = buildStrategyPrompt(context);
 
         try {
-            String response = strategyClient.prompt()
+            String response = aiCallLimiter.call("highlight.strategy", () -> strategyClient.prompt()
                     .user(prompt)
                     .call()
-                    .content();
+                    .content());
 
             // 50자 제한
             String strategy = response.trim();
@@ -110,10 +114,10 @@ public class HighlightReportAiService {
         prompt.append("\n각 위기를 한 줄씩, 총 3개 이내로 해설해주세요.");
 
         try {
-            return highlightClient.prompt()
+            return aiCallLimiter.call("highlight.crisis", () -> highlightClient.prompt()
                     .user(prompt.toString())
                     .call()
-                    .content()
+                    .content())
                     .trim();
         } catch (Exception e) {
             log.error("위기 해설 생성 실패", e);
@@ -0,0 +1,167 @@
+package com.example.starlogue.service;
+
+import com.example.starlogue.config.datasource.Workload;
+import com.example.starlogue.config.datasource.WorkloadPool;
+import com.example.starlogue.domain.DarkHistory;
+import com.example.starlogue.repository.DarkHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.starlogue.dto.CursorDto.Cursor;
+import static com.example.starlogue.dto.CursorDto.CursorResponse;
+import static com.example.starlogue.dto.DarkHistoryDto.PublicDarkHistoryResponse;
+
+/**
+ * 공개 흑역사 피드 (인기순)
+ * - 상위 N건을 바로 내려줄 수 있는 DTO 스냅샷으로 메모리에 두고 주기적으로 갱신
+ * - 스냅샷 범위의 페이지는 DB를 타지 않는다
+ * - 스냅샷 이후는 (viewCount, id) keyset 커서로 조회
+ * - 정렬은 스냅샷 기준이므로 몇 초의 지연을 허용한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PublicDarkHistoryFeedService {
+
+    private final DarkHistoryRepository darkHistoryRepository;
+
+    @Value("${starlogue.dark-history.public-feed.snapshot-size:2000}")
+    private int snapshotSize;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), 0);
+
+    // === 스냅샷 갱신 ===
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${starlogue.dark-history.public-feed.refresh-interval-ms:5000}",
+            initialDelayString = "${starlogue.dark-history.public-feed.refresh-interval-ms:5000}")
+    @WorkloadPool(Workload.ANALYTICS)
+    public void refresh() {
+        List<PublicDarkHistoryResponse> items = darkHistoryRepository.findPublicFeedTop(snapshotSize).stream()
+                .map(dh -> PublicDarkHistoryResponse.from(dh, true))  // 익명 처리
+                .toList();
+        // 잘린 스냅샷이면 전체 공개 건수를 따로 센다 (오프셋 페이지의 totalElements)
+        long publicCount = items.size() < snapshotSize ? items.size() : darkHistoryRepository.countByIsPublicTrue();
+        this.snapshot = new Snapshot(items, publicCount);
+        log.debug("공개 흑역사 스냅샷 갱신 - {} 건 (전체 {} 건)", items.size(), publicCount);
+    }
+
+    // === 조회 ===
+
+    /**
+     * 커서 기반 피드 조회
+     * - cursor가 없으면 첫 페이지
+     */
+    public CursorResponse<PublicDarkHistoryResponse> getFeed(String cursorToken, int size) {
+        List<PublicDarkHistoryResponse> current = this.snapshot.items();
+        boolean complete = current.size() < snapshotSize;  // 공개 흑역사 전체가 스냅샷에 들어있음
+
+        Cursor cursor = cursorToken != null ? Cursor.decode(cursorToken) : null;
+        int from = cursor == null ? 0 : positionAfter(current, cursor);
+
+        List<PublicDarkHistoryResponse> items = new ArrayList<>(
+                current.subList(Math.min(from, current.size()), Math.min(from + size, current.size())));
+
+        // 스냅샷을 다 쓰고도 모자라면 DB keyset 조회
+        boolean hasNext;
+        if (items.size() < size && !complete) {
+            Cursor after = !items.isEmpty() ? cursorOf(items.get(items.size() - 1)) : cursor;
+            int remaining = size - items.size() + 1;  // 다음 페이지 존재 여부 확인용 1건 추가
+            List<DarkHistory> more = after == null
+                    ? darkHistoryRepository.findPublicFeedTop(remaining)
+                    : darkHistoryRepository.findPublicFeedAfter(after.keyAsInt(), after.id(), remaining);
+            for (DarkHistory dh : more) {
+                items.add(PublicDarkHistoryResponse.from(dh, true));
+            }
+
+            hasNext = items.size() > size;
+            if (hasNext) {
+                items = items.subList(0, size);
+            }
+        } else {
+            hasNext = from + size < current.size() || !complete;
+        }
+
+        String nextCursor = hasNext && !items.isEmpty() ? cursorOf(items.get(items.size() - 1)).encode() : null;
+        return CursorResponse.of(List.copyOf(items), nextCursor);
+    }
+
+    /**
+     * 오프셋 기반 페이지 조회 (기존 API 호환)
+     * - 스냅샷 범위 안이면 DB를 타지 않는다
+     * - 스냅샷이 잘렸으면 전체 건수는 갱신 시 센 공개 흑역사 수
+     */
+    public Page<PublicDarkHistoryResponse> getPage(Pageable pageable) {
+        Snapshot currentSnapshot = this.snapshot;
+        List<PublicDarkHistoryResponse> current = currentSnapshot.items();
+        boolean complete = current.size() < snapshotSize;
+        long from = pageable.getOffset();
+        long to = from + pageable.getPageSize();
+
+        if (!complete && to > current.size()) {
+            return darkHistoryRepository.findPublicDarkHistories(pageable)
+                    .map(dh -> PublicDarkHistoryResponse.from(dh, true));
+        }
+
+        List<PublicDarkHistoryResponse> content = from >= current.size()
+                ? List.of()
+                : current.subList((int) from, (int) Math.min(to, current.size()));
+        long total = complete ? current.size() : Math.max(currentSnapshot.publicCount(), current.size());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 커서 바로 다음 항목의 스냅샷 내 위치 (이진 탐색)
+     */
+    private static int positionAfter(List<PublicDarkHistoryResponse> items, Cursor cursor) {
+        int viewCount = cursor.keyAsInt();
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            PublicDarkHistoryResponse item = items.get(mid);
+            boolean beforeOrAt = item.viewCount() > viewCount
+                    || (item.viewCount() == viewCount && compareUuid(item.id(), cursor.id()) <= 0);
+            if (beforeOrAt) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Cursor cursorOf(PublicDarkHistoryResponse item) {
+        return Cursor.of(item.viewCount(), item.id());
+    }
+
+    /**
+     * PostgreSQL uuid 정렬과 같은 부호 없는 비교
+     */
+    private static int compareUuid(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    /**
+     * 스냅샷과 같은 시점의 공개 흑역사 전체 수 (함께 교체)
+     */
+    private record Snapshot(List<PublicDarkHistoryResponse> items, long publicCount) {
+    }
+}
@@ -3,13 +3,15 @@ package com.example.starlogue.service;
 import com.example.starlogue.domain.StudySession;
 import com.example.starlogue.domain.enums.SessionStatus;
 import com.example.starlogue.repository.StudySessionRepository;
+import com.example.starlogue.service.concurrency.OptimisticRetryExecutor;
+import com.example.starlogue.service.metrics.SessionMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -21,6 +23,8 @@ import java.util.concurrent.ScheduledFuture;
 
 /**
  * WebSocket 연결 상태 관리 및 탈주(DESERTED) 처리 서비스
+ * - 하트비트로 오프라인 모드를 알린 세션은 끊겨도 offline-hold-seconds 동안 탈주 처리를 미룬다
+ *   (오프라인 이벤트 일괄 반영이 도착하면 기본 유예 시간으로 돌아간다)
  */
 @Slf4j
 @Service
@@ -31,17 +35,31 @@ public class SessionConnectionService {
     private final DailyRecordService dailyRecordService;
     private final SimpMessagingTemplate messagingTemplate;
     private final TaskScheduler taskScheduler;
+    private final OptimisticRetryExecutor optimisticRetry;
+    private final SessionMetrics sessionMetrics;
 
     // 유예 시간 (초) - 기본 60초
     @Value("${starlogue.session.grace-period-seconds:60}")
     private int gracePeriodSeconds;
 
+    // 오프라인 모드 유예 시간 (초) - 기본 4시간
+    @Value("${starlogue.session.offline-hold-seconds:14400}")
+    private int offlineHoldSeconds;
+
     // userId -> WebSocket sessionId 매핑
     private final Map<UUID, String> userConnections = new ConcurrentHashMap<>();
 
     // userId -> 유예 타이머
     private final Map<UUID, ScheduledFuture<?>> gracePeriodTimers = new ConcurrentHashMap<>();
 
+    // userId -> 오프라인 모드를 알린 공부 세션 ID
+    private final Map<UUID, UUID> offlineSessions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerGauges() {
+        sessionMetrics.registerConnectionGauges(userConnections, gracePeriodTimers);
+    }
+
     /**
      * WebSocket 연결 시 처리
      */
@@ -52,6 +70,7 @@ public class SessionConnectionService {
         ScheduledFuture<?> timer = gracePeriodTimers.remove(userId);
         if (timer != null) {
             timer.cancel(false);
+            sessionMetrics.reconnected();
             log.info("재연결 성공 - 유예 타이머 취소 - userId: {}", userId);
 
             // 재연결 성공 알림
@@ -81,25 +100,48 @@ public class SessionConnectionService {
                 .findByUserIdAndStatusIn(userId, SessionStatus.IN_PROGRESS, SessionStatus.PAUSED);
 
         if (activeSession.isPresent()) {
-            StudySession session = activeSession.get();
+            UUID sessionId = activeSession.get().getId();
+            int seconds = sessionId.equals(offlineSessions.get(userId)) ? offlineHoldSeconds : gracePeriodSeconds;
             log.info("활성 세션 있음 - 유예 타이머 시작 - userId: {}, sessionId: {}, 유예시간: {}초",
-                    userId, session.getId(), gracePeriodSeconds);
-
-            // 유예 타이머 시작
-            ScheduledFuture<?> timer = taskScheduler.schedule(
-                    () -> handleGracePeriodExpired(userId, session.getId()),
-                    Instant.now().plusSeconds(gracePeriodSeconds)
-            );
-            gracePeriodTimers.put(userId, timer);
+                    userId, sessionId, seconds);
+            scheduleGracePeriod(userId, sessionId, seconds);
+        }
+    }
+
+    /**
+     * 오프라인 모드 선언 (하트비트마다 갱신)
+     * - 선언한 세션은 연결이 끊겨도 이벤트 일괄 반영을 기다린다
+     */
+    public void declareOfflineMode(UUID userId, UUID sessionId, boolean offlineCapable) {
+        if (offlineCapable) {
+            offlineSessions.put(userId, sessionId);
+        } else {
+            offlineSessions.remove(userId);
+        }
+    }
+
+    /**
+     * 오프라인 이벤트 일괄 반영 후 처리
+     * - 아직 WebSocket으로 재연결하지 않았으면 오프라인 유예를 기본 유예 시간으로 줄인다
+     */
+    public void handleOfflineEventsApplied(UUID userId, UUID sessionId) {
+        if (userConnections.containsKey(userId)) {
+            return;
+        }
+        ScheduledFuture<?> timer = gracePeriodTimers.remove(userId);
+        if (timer != null) {
+            timer.cancel(false);
+            scheduleGracePeriod(userId, sessionId, gracePeriodSeconds);
         }
     }
 
     /**
      * 유예 시간 만료 처리 - DESERTED 상태로 변경
+     * - 스케줄러 스레드에서 호출되므로 트랜잭션은 재시도 실행기가 연다 (충돌 시 재시도)
      */
-    @Transactional
     public void handleGracePeriodExpired(UUID userId, UUID sessionId) {
         gracePeriodTimers.remove(userId);
+        offlineSessions.remove(userId, sessionId);
 
         // 이미 재연결되었는지 확인
         if (userConnections.containsKey(userId)) {
@@ -107,17 +149,24 @@ public class SessionConnectionService {
             return;
         }
 
-        sessionRepository.findById(sessionId).ifPresent(session -> {
-            if (!session.getStatus().isFinished()) {
-                session.markAsDeserted();
-                sessionRepository.save(session);
-
-                // DailyRecord에 반영
-                dailyRecordService.addSessionResult(sessionId);
-
-                log.warn("탈주 처리됨 - userId: {}, sessionId: {}", userId, sessionId);
-            }
-        });
+        boolean deserted = optimisticRetry.execute("session.desert", () ->
+                sessionRepository.findById(sessionId)
+                        .filter(session -> !session.getStatus().isFinished())
+                        .map(session -> {
+                            session.markAsDeserted();
+                            sessionRepository.save(session);
+
+                            // DailyRecord에 반영
+                            dailyRecordService.addSessionResult(sessionId);
+                            return true;
+                        })
+                        .orElse(false));
+
+        // 커밋된 경우에만 집계 (충돌 재시도로 중복 집계되지 않도록)
+        if (deserted) {
+            sessionMetrics.deserted();
+            log.warn("탈주 처리됨 - userId: {}, sessionId: {}", userId, sessionId);
+        }
     }
 
     /**
@@ -131,7 +180,12 @@ public class SessionConnectionService {
      * 특정 사용자에게 메시지 전송
      */
     public void sendToUser(UUID userId, String destination, Object payload) {
-        messagingTemplate.convertAndSendToUser(userId.toString(), destination, payload);
+        long startedAt = System.nanoTime();
+        try {
+            messagingTemplate.convertAndSendToUser(userId.toString(), destination, payload);
+        } finally {
+            sessionMetrics.recordSend(startedAt);
+        }
     }
 
     /**
@@ -147,4 +201,14 @@ public class SessionConnectionService {
                 "timestamp", LocalDateTime.now()
         ));
     }
+
+    // === Private Methods ===
+
+    private void scheduleGracePeriod(UUID userId, UUID sessionId, int seconds) {
+        ScheduledFuture<?> timer = taskScheduler.schedule(
+                () -> handleGracePeriodExpired(userId, sessionId),
+                Instant.now().plusSeconds(seconds)
+        );
+        gracePeriodTimers.put(userId, timer);
+    }
 }
@@ -7,12 +7,16 @@ import com.example.starlogue.domain.StudySession;
 import com.example.starlogue.domain.enums.RecordType;
 import com.example.starlogue.domain.enums.SessionStatus;
 import com.example.starlogue.domain.enums.StopReason;
+import com.example.starlogue.service.concurrency.OptimisticRetryExecutor;
+import com.example.starlogue.service.metrics.SessionMetrics;
+import com.example.starlogue.service.metrics.SessionOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,82 +34,154 @@ public class StudyFacadeService {
     private final StudySessionService sessionService;
     private final DailyRecordService dailyRecordService;
     private final DarkHistoryService darkHistoryService;
+    private final SessionConnectionService connectionService;
+    private final OptimisticRetryExecutor optimisticRetry;
+    private final SessionMetrics sessionMetrics;
 
     // === 세션 라이프사이클 ===
 
     /**
      * 공부 시작 (세션 + DailyRecord 초기화)
+     * - DailyRecord upsert + 세션 INSERT (태그 지정 시 태그 조회/UPDATE 추가)
+     * - 저장한 세션을 그대로 반환 (재조회 없음, 태그는 이미 로딩됨)
+     * - 멱등: 이미 활성 세션이 있으면 (더블 클릭, 다른 기기) 그 세션을 반환
+     *
+     * 충돌한 INSERT는 해당 트랜잭션을 깨뜨리므로 여기서는 트랜잭션을 열지 않고
+     * 각 단계가 자체 트랜잭션으로 커밋/롤백된 뒤 기존 세션을 새로 조회한다.
      */
-    @Transactional
     public StudySession startStudy(UUID userId, UUID tagId,
                                    String pledgeContent, Integer targetMinutes) {
-        // DailyRecord 준비 (없으면 생성)
-        dailyRecordService.getOrCreateTodayRecord(userId);
-
-        // 세션 시작
-        StudySession session = sessionService.startSession(userId, tagId, pledgeContent, targetMinutes);
-
-        // DTO 변환용으로 fetch join된 세션 조회
-        return sessionService.getSessionWithDetails(session.getId());
+        long startedAt = System.nanoTime();
+        try {
+            // DailyRecord 준비 (없으면 생성)
+            dailyRecordService.ensureTodayRecord(userId);
+
+            // 세션 시작
+            try {
+                return sessionService.startSession(userId, tagId, pledgeContent, targetMinutes);
+            } catch (ActiveSessionConflictException e) {
+                // 경쟁한 시작 요청은 커밋된 뒤에야 유니크 위반이 나므로 여기서는 항상 조회된다
+                StudySession existing = sessionService.getCurrentSessionWithDetails(userId)
+                        .orElseThrow(() -> e);
+                log.info("이미 활성 세션 존재 - 기존 세션 반환 userId: {}, sessionId: {}", userId, existing.getId());
+                return existing;
+            }
+        } finally {
+            sessionMetrics.record(SessionOperation.START, startedAt);
+        }
     }
 
     /**
      * 공부 중단
+     * - 하트비트/유예 만료와 같은 세션 행을 두고 경쟁하므로 낙관적 락 충돌 시 재시도
      */
-    @Transactional
     public StudySession pauseStudy(UUID sessionId, StopReason reason, int expectedMinutes) {
-        sessionService.stopSession(sessionId, reason, expectedMinutes);
-        return sessionService.getSessionWithDetails(sessionId);
+        long startedAt = System.nanoTime();
+        try {
+            return optimisticRetry.execute("session.stop", () -> {
+                sessionService.stopSession(sessionId, reason, expectedMinutes);
+                return sessionService.getSessionWithDetails(sessionId);
+            });
+        } finally {
+            sessionMetrics.record(SessionOperation.PAUSE, startedAt);
+        }
     }
 
     /**
      * 공부 재개
      */
-    @Transactional
     public StudySession resumeStudy(UUID sessionId) {
-        sessionService.resumeSession(sessionId);
-        return sessionService.getSessionWithDetails(sessionId);
+        long startedAt = System.nanoTime();
+        try {
+            return optimisticRetry.execute("session.resume", () -> {
+                sessionService.resumeSession(sessionId);
+                return sessionService.getSessionWithDetails(sessionId);
+            });
+        } finally {
+            sessionMetrics.record(SessionOperation.RESUME, startedAt);
+        }
     }
 
     /**
-     * 공부 종료 (세션 종료 + DailyRecord 반영)
+     * 집중 시간 업데이트 (하트비트)
      */
-    @Transactional
-    public SessionEndResult endStudy(UUID sessionId) {
-        // 세션 종료
-        sessionService.endSession(sessionId);
-
-        // DailyRecord에 결과 반영
-        dailyRecordService.addSessionResult(sessionId);
+    public StudySession heartbeat(UUID sessionId, int additionalSeconds) {
+        long startedAt = System.nanoTime();
+        try {
+            return optimisticRetry.execute("session.heartbeat", () -> {
+                sessionService.updateFocusTime(sessionId, additionalSeconds);
+                return sessionService.getSessionWithDetails(sessionId);
+            });
+        } finally {
+            sessionMetrics.record(SessionOperation.HEARTBEAT, startedAt);
+        }
+    }
 
-        // DTO 변환용으로 fetch join된 세션 조회
-        StudySession session = sessionService.getSessionWithDetails(sessionId);
+    /**
+     * 오프라인 이벤트 일괄 반영 (끊긴 동안의 집중/중단/재개 재생)
+     * - 반영 후 오프라인 유예를 기본 유예 시간으로 되돌린다
+     */
+    public EventBatchResult applyEventBatch(UUID userId, UUID sessionId,
+                                            List<StudySessionService.OfflineEvent> events) {
+        EventBatchResult result = optimisticRetry.execute("session.events", () -> {
+            int applied = sessionService.applyEventBatch(userId, sessionId, events);
+            return new EventBatchResult(sessionService.getSessionWithDetails(sessionId), applied);
+        });
+        connectionService.handleOfflineEventsApplied(userId, sessionId);
+        return result;
+    }
 
-        return new SessionEndResult(
-                session,
-                session.getIsSuccess(),
-                session.getTotalStudySeconds() / 60,
-                session.getMaxFocusGauge() / 60
-        );
+    /**
+     * 공부 종료 (세션 종료 + DailyRecord 반영)
+     */
+    public SessionEndResult endStudy(UUID sessionId) {
+        long startedAt = System.nanoTime();
+        try {
+            return optimisticRetry.execute("session.end", () -> {
+                // 세션 종료
+                sessionService.endSession(sessionId);
+
+                // DailyRecord에 결과 반영
+                dailyRecordService.addSessionResult(sessionId);
+
+                // DTO 변환용으로 fetch join된 세션 조회
+                StudySession session = sessionService.getSessionWithDetails(sessionId);
+
+                return new SessionEndResult(
+                        session,
+                        session.getIsSuccess(),
+                        session.getTotalStudySeconds() / 60,
+                        session.getMaxFocusGauge() / 60
+                );
+            });
+        } finally {
+            sessionMetrics.record(SessionOperation.END, startedAt);
+        }
     }
 
     /**
      * 공부 포기
      */
-    @Transactional
     public SessionEndResult abandonStudy(UUID sessionId) {
-        sessionService.abandonSession(sessionId);
-        dailyRecordService.addSessionResult(sessionId);
-
-        // DTO 변환용으로 fetch join된 세션 조회
-        StudySession session = sessionService.getSessionWithDetails(sessionId);
-
-        return new SessionEndResult(
-                session,
-                false,
-                session.getTotalStudySeconds() / 60,
-                session.getMaxFocusGauge() / 60
-        );
+        long startedAt = System.nanoTime();
+        try {
+            return optimisticRetry.execute("session.abandon", () -> {
+                sessionService.abandonSession(sessionId);
+                dailyRecordService.addSessionResult(sessionId);
+
+                // DTO 변환용으로 fetch join된 세션 조회
+                StudySession session = sessionService.getSessionWithDetails(sessionId);
+
+                return new SessionEndResult(
+                        session,
+                        false,
+                        session.getTotalStudySeconds() / 60,
+                        session.getMaxFocusGauge() / 60
+                );
+            });
+        } finally {
+            sessionMetrics.record(SessionOperation.ABANDON, startedAt);
+        }
     }
 
     // === 하루 종료 처리 ===
@@ -117,8 +193,10 @@ public class StudyFacadeService {
      * 2. DailyRecord 최종 판정
      * 3. 하이라이트 리포트 생성
      * 4. 실패 시 흑역사 생성
+     *
+     * 흑역사 AI 호출 동안 커넥션을 잡지 않도록 여기서는 트랜잭션을 열지 않는다.
+     * 각 단계는 자체 트랜잭션으로 커밋되고 이미 처리된 단계는 건너뛰므로 실패 후 다시 호출하면 이어서 진행된다.
      */
-    @Transactional
     public DailyEndResult finalizeDailyStudy(UUID userId, LocalDate date) {
         // 진행 중인 세션이 있으면 강제 종료
         sessionService.getCurrentSession(userId).ifPresent(session -> {
@@ -141,13 +219,13 @@ public class StudyFacadeService {
         log.info("하루 종료 정산 완료 - userId: {}, date: {}, type: {}",
                 userId, date, record.getRecordType());
 
-        return new DailyEndResult(record, report, darkHistory);
+        // 리포트 / 흑역사가 연결된 기록으로 다시 조회 (DTO 변환용)
+        return new DailyEndResult(dailyRecordService.getRecordRequired(userId, date), report, darkHistory);
     }
 
     /**
      * 오늘 정산 (현재 날짜 기준)
      */
-    @Transactional
     public DailyEndResult finalizeTodayStudy(UUID userId) {
         return finalizeDailyStudy(userId, LocalDate.now().minusDays(1)); // 어제 기준
     }
@@ -180,6 +258,11 @@ public class StudyFacadeService {
             int maxFocusMinutes
     ) {}
 
+    public record EventBatchResult(
+            StudySession session,
+            int appliedCount
+    ) {}
+
     public record DailyEndResult(
             DailyRecord dailyRecord,
             HighlightReport highlightReport,
@@ -1,6 +1,8 @@
 package com.example.starlogue.service;
 
+import com.example.starlogue.config.DatabaseIndexInitializer;
 import com.example.starlogue.domain.*;
+import com.example.starlogue.domain.enums.SessionEventType;
 import com.example.starlogue.domain.enums.SessionStatus;
 import com.example.starlogue.domain.enums.StopReason;
 import com.example.starlogue.repository.StopEventRepository;
@@ -8,32 +10,51 @@ import com.example.starlogue.repository.StudySessionRepository;
 import com.example.starlogue.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.example.starlogue.dto.CursorDto.Cursor;
+import static com.example.starlogue.dto.CursorDto.CursorResponse;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StudySessionService {
 
+    private static final String FOREIGN_KEY_VIOLATION = "23503";  // PostgreSQL SQLSTATE
+
     private final StudySessionRepository sessionRepository;
     private final StopEventRepository stopEventRepository;
     private final UserRepository userRepository;
     private final TagService tagService;
 
+    @Value("${starlogue.session.event-batch.max-events:5000}")
+    private int maxBatchEvents;
+
+    @Value("${starlogue.session.event-batch.clock-skew-seconds:30}")
+    private long clockSkewSeconds;
+
     // === 세션 시작 ===
 
     /**
      * 새 세션 시작
+     * - 사용자는 프록시 참조만 사용 (조회 없음)
+     * - 중복 시작은 부분 유니크 인덱스(uk_session_user_active)로 DB가 막는다 (사전 조회 없음)
      *
      * @param userId 사용자 ID
      * @param tagId 태그 ID (nullable)
@@ -44,23 +65,12 @@ public class StudySessionService {
     @Transactional
     public StudySession startSession(UUID userId, UUID tagId,
                                      String pledgeContent, Integer targetMinutes) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        // 이미 진행 중인 세션이 있는지 확인
-        Optional<StudySession> existingSession = sessionRepository
-                .findByUserIdAndStatus(userId, SessionStatus.IN_PROGRESS);
+        User user = userRepository.getReferenceById(userId);
 
-        if (existingSession.isPresent()) {
-            throw new IllegalStateException("이미 진행 중인 세션이 있습니다. " +
-                    "기존 세션을 종료하거나 현재 세션을 계속하세요.");
-        }
-
-        // 태그 처리
+        // 태그 처리 (한 번 조회, 사용 횟수는 버퍼에 모아 주기적으로 반영)
         Tag tag = null;
         if (tagId != null) {
-            tag = tagService.getTag(tagId);
-            tagService.incrementUsageCount(tagId);
+            tag = tagService.recordUsage(tagId);
         }
 
         // 다짐 생성
@@ -73,7 +83,19 @@ public class StudySessionService {
                 .pledge(pledge)
                 .build();
 
-        StudySession savedSession = sessionRepository.save(session);
+        StudySession savedSession;
+        try {
+            savedSession = sessionRepository.saveAndFlush(session);
+        } catch (DataIntegrityViolationException e) {
+            if (isActiveSessionConflict(e)) {
+                throw new ActiveSessionConflictException();
+            }
+            if (isMissingUser(e)) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+            }
+            throw e;
+        }
+
         log.info("세션 시작 - userId: {}, sessionId: {}, pledge: {}",
                 userId, savedSession.getId(), pledgeContent);
 
@@ -107,6 +129,7 @@ public class StudySessionService {
 
         StopEvent stopEvent = session.stop(reason, expectedMinutes);
         StopEvent savedEvent = stopEventRepository.save(stopEvent);
+        sessionRepository.save(session);  // 타임라인 이벤트 발행
 
         log.info("세션 중단 - sessionId: {}, reason: {}, expected: {}분, stamina: {}",
                 sessionId, reason, expectedMinutes, session.getStamina());
@@ -131,6 +154,7 @@ public class StudySessionService {
                 .orElseThrow(() -> new IllegalStateException("현재 중단 중인 상태가 아닙니다."));
 
         session.resume(currentStop);
+        sessionRepository.save(session);  // 타임라인 이벤트 발행
 
         log.info("세션 재개 - sessionId: {}, 약속어김: {}, 실제중단시간: {}초",
                 sessionId, currentStop.getIsBrokenPromise(), currentStop.getActualPauseSeconds());
@@ -157,6 +181,7 @@ public class StudySessionService {
         }
 
         session.end();
+        sessionRepository.save(session);  // 타임라인 이벤트 발행
 
         log.info("세션 종료 - sessionId: {}, 성공: {}, 총공부시간: {}초, 최대집중: {}초",
                 sessionId, session.getIsSuccess(),
@@ -200,6 +225,96 @@ public class StudySessionService {
         }
 
         session.updateFocusGauge(additionalSeconds);
+        sessionRepository.save(session);  // 리더보드/타임라인 이벤트 발행 (커밋 후 반영)
+    }
+
+    // === 오프라인 이벤트 일괄 반영 ===
+
+    /**
+     * 오프라인 동안 쌓인 이벤트를 시간순으로 한 트랜잭션에서 재생
+     * - 서버 기준 범위(마지막 반영 시각 ~ 현재 + 허용 오차) 밖이거나 순서가 어긋나면 전체 거부
+     * - FOCUS 누적 합은 (마지막 반영 시각 ~ 이벤트 시각) + 허용 오차 한 번을 넘을 수 없다 (같은 시각 이벤트로 부풀리기 방지)
+     * - 생성된 StopEvent는 모아서 배치 INSERT
+     * - 진행 중인 세션에만 반영: 하트비트로 오프라인 모드를 알린 세션은 끊겨도 offline-hold-seconds 동안 탈주 처리되지 않는다
+     *   (그보다 오래 끊겨 탈주(DESERTED) 처리된 세션은 일일 기록에 이미 반영되어 되살리지 않는다 - 409)
+     *
+     * @return 반영된 이벤트 수 (도중에 스태미나가 소진되면 이후 이벤트는 버린다)
+     */
+    @Transactional
+    public int applyEventBatch(UUID userId, UUID sessionId, List<OfflineEvent> events) {
+        if (events.size() > maxBatchEvents) {
+            throw new IllegalArgumentException("한 번에 보낼 수 있는 이벤트는 최대 " + maxBatchEvents + "개입니다.");
+        }
+
+        StudySession session = getSession(sessionId);
+        if (!session.getUser().getId().equals(userId)) {
+            throw new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionId);
+        }
+        if (session.getStatus() == SessionStatus.DESERTED) {
+            throw new IllegalStateException("연결 유예 시간이 지나 탈주 처리된 세션에는 오프라인 이벤트를 반영할 수 없습니다.");
+        }
+        validateSessionInProgress(session);
+
+        // 유효 범위: 이미 서버에 반영된 시각 이후 ~ 현재 (클라이언트 시계 오차 허용)
+        LocalDateTime lastApplied = session.getUpdatedAt();
+        LocalDateTime lowerBound = lastApplied.minusSeconds(clockSkewSeconds);
+        LocalDateTime upperBound = LocalDateTime.now().plusSeconds(clockSkewSeconds);
+
+        StopEvent openStop = session.isPaused()
+                ? stopEventRepository.findBySessionIdAndResumedAtIsNull(sessionId).orElse(null)
+                : null;
+        LocalDateTime previous = lowerBound;
+        List<StopEvent> created = new ArrayList<>();
+        int applied = 0;
+        long focusSeconds = 0;
+
+        for (OfflineEvent event : events) {
+            LocalDateTime at = event.occurredAt();
+            if (at.isBefore(previous) || at.isAfter(upperBound)) {
+                throw new IllegalArgumentException("이벤트 시각이 순서에 맞지 않거나 허용 범위를 벗어났습니다: " + at);
+            }
+            if (session.getStatus() != SessionStatus.IN_PROGRESS) {
+                break;  // 스태미나 소진으로 실패 확정
+            }
+
+            switch (event.type()) {
+                case FOCUS -> {
+                    validateNotAlreadyPaused(session);
+                    int seconds = event.seconds() != null ? event.seconds() : 0;
+                    long elapsed = Duration.between(lastApplied, at).getSeconds() + clockSkewSeconds;
+                    focusSeconds += seconds;
+                    if (seconds < 1 || focusSeconds > elapsed) {
+                        throw new IllegalArgumentException("집중 시간이 경과 시간보다 깁니다: " + focusSeconds + "초");
+                    }
+                    session.updateFocusGauge(seconds, at);
+                }
+                case STOP -> {
+                    validateNotAlreadyPaused(session);
+                    if (event.reason() == null || event.expectedMinutes() == null
+                            || event.expectedMinutes() < 1 || event.expectedMinutes() > 60) {
+                        throw new IllegalArgumentException("중단 이벤트에는 사유와 1~60분의 예상 시간이 필요합니다.");
+                    }
+                    openStop = session.stop(event.reason(), event.expectedMinutes(), at);
+                    created.add(openStop);
+                }
+                case RESUME -> {
+                    if (openStop == null) {
+                        throw new IllegalStateException("현재 중단 중인 상태가 아닙니다.");
+                    }
+                    session.resume(openStop, at);
+                    openStop = null;
+                }
+            }
+            previous = at;
+            applied++;
+        }
+
+        stopEventRepository.saveAll(created);
+        sessionRepository.save(session);  // 리더보드/타임라인 이벤트 발행
+
+        log.info("오프라인 이벤트 반영 - sessionId: {}, 요청: {}, 반영: {}, 중단 이벤트: {}",
+                sessionId, events.size(), applied, created.size());
+        return applied;
     }
 
     // === 조회 ===
@@ -255,6 +370,20 @@ public class StudySessionService {
         return sessionRepository.findByUserIdOrderByStartedAtDesc(userId, pageable);
     }
 
+    /**
+     * 세션 히스토리 (커서 기반, COUNT 없음)
+     */
+    public CursorResponse<StudySession> getSessionHistory(UUID userId, String cursorToken, int size) {
+        List<StudySession> fetched;
+        if (cursorToken == null) {
+            fetched = sessionRepository.findHistoryFirst(userId, size + 1);
+        } else {
+            Cursor cursor = Cursor.decode(cursorToken);
+            fetched = sessionRepository.findHistoryAfter(userId, cursor.keyAsDateTime(), cursor.id(), size + 1);
+        }
+        return CursorResponse.fromFetched(fetched, size, s -> Cursor.of(s.getStartedAt(), s.getId()));
+    }
+
     /**
      * 세션의 중단 이벤트 목록
      */
@@ -305,6 +434,26 @@ public class StudySessionService {
 
     // === Private Methods ===
 
+    /**
+     * 활성 세션 부분 유니크 인덱스 위반 여부
+     */
+    private boolean isActiveSessionConflict(DataIntegrityViolationException e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        return cause.getMessage() != null
+                && cause.getMessage().contains(DatabaseIndexInitializer.ACTIVE_SESSION_INDEX);
+    }
+
+    /**
+     * 사용자 FK 위반 (탈퇴 등으로 없는 사용자) - 다른 FK / NOT NULL 위반은 그대로 던진다
+     */
+    private boolean isMissingUser(DataIntegrityViolationException e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        return cause instanceof SQLException sqlException
+                && FOREIGN_KEY_VIOLATION.equals(sqlException.getSQLState())
+                && cause.getMessage() != null
+                && cause.getMessage().contains("(user_id)");
+    }
+
     private Pledge createPledge(String content, Integer targetMinutes) {
         if (content == null && targetMinutes == null) {
             return Pledge.empty();
@@ -323,4 +472,15 @@ public class StudySessionService {
             throw new IllegalStateException("이미 중단 중인 세션입니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 오프라인 이벤트 (클라이언트 시각 기준)
+     */
+    public record OfflineEvent(
+            SessionEventType type,
+            LocalDateTime occurredAt,
+            Integer seconds,          // FOCUS
+            StopReason reason,        // STOP
+            Integer expectedMinutes   // STOP
+    ) {}
+}
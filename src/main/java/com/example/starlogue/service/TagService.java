@@ -1,10 +1,15 @@
 package com.example.starlogue.service;
 
+import com.example.starlogue.config.cache.CacheInvalidator;
+import com.example.starlogue.config.cache.CacheNames;
 import com.example.starlogue.domain.Tag;
 import com.example.starlogue.domain.User;
 import com.example.starlogue.repository.TagRepository;
 import com.example.starlogue.repository.UserRepository;
+import com.example.starlogue.service.counter.TagUsageCounter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +23,9 @@ public class TagService {
 
     private final TagRepository tagRepository;
     private final UserRepository userRepository;
+    private final CacheInvalidator cacheInvalidator;
+    private final CacheManager cacheManager;
+    private final TagUsageCounter tagUsageCounter;
 
     // 기본 색상 팔레트 (별 색상)
     private static final String[] DEFAULT_COLORS = {
@@ -57,21 +65,31 @@ public class TagService {
                 .icon(icon)
                 .build();
 
-        return tagRepository.save(tag);
+        Tag savedTag = tagRepository.save(tag);
+        cacheInvalidator.evict(CacheNames.ACTIVE_TAGS, userId);
+        return savedTag;
     }
 
     /**
-     * 사용자의 활성 태그 목록 조회
+     * 사용자의 활성 태그 목록 조회 (캐시 + 반영 대기 중인 사용 횟수)
      */
-    public List<Tag> getActiveTags(UUID userId) {
-        return tagRepository.findByUserIdAndIsActiveTrueOrderByUsageCountDesc(userId);
+    public List<TagSnapshot> getActiveTags(UUID userId) {
+        List<TagSnapshot> tags = cache(CacheNames.ACTIVE_TAGS).get(userId, () ->
+                tagRepository.findByUserIdAndIsActiveTrueOrderByUsageCountDesc(userId)
+                        .stream()
+                        .map(TagSnapshot::from)
+                        .toList());
+        return tagUsageCounter.withPending(tags);
     }
 
     /**
      * 사용자의 모든 태그 조회 (비활성 포함)
      */
-    public List<Tag> getAllTags(UUID userId) {
-        return tagRepository.findByUserIdOrderByUsageCountDesc(userId);
+    public List<TagSnapshot> getAllTags(UUID userId) {
+        return tagUsageCounter.withPending(tagRepository.findByUserIdOrderByUsageCountDesc(userId)
+                .stream()
+                .map(TagSnapshot::from)
+                .toList());
     }
 
     /**
@@ -82,6 +100,14 @@ public class TagService {
                 .orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다: " + tagId));
     }
 
+    /**
+     * 태그 조회 (캐시 + 반영 대기 중인 사용 횟수 - 세션 시작 / 상세 조회용)
+     */
+    public TagSnapshot getCachedTag(UUID tagId) {
+        TagSnapshot tag = cache(CacheNames.TAGS).get(tagId, () -> TagSnapshot.from(getTag(tagId)));
+        return tagUsageCounter.withPending(tag);
+    }
+
     /**
      * 이름으로 태그 조회 (없으면 생성)
      */
@@ -105,16 +131,26 @@ public class TagService {
         }
 
         tag.update(name, colorHex, icon);
+        evict(tag);
         return tag;
     }
 
     /**
-     * 태그 사용 횟수 증가 (세션 시작 시 호출)
+     * 태그 사용 횟수 증가 (메모리에 모았다가 TagUsageCounter가 주기적으로 반영)
      */
-    @Transactional
     public void incrementUsageCount(UUID tagId) {
+        tagUsageCounter.increment(tagId);
+    }
+
+    /**
+     * 세션 시작 시 태그 사용 기록
+     * - 응답 변환이 트랜잭션 밖에서 태그 필드를 읽으므로 프록시가 아닌 로딩된 엔티티를 반환 (PK 조회 1회)
+     * - 사용 횟수는 커밋 후 버퍼에만 더한다 (태그 행 잠금 없음)
+     */
+    public Tag recordUsage(UUID tagId) {
         Tag tag = getTag(tagId);
-        tag.incrementUsageCount();
+        tagUsageCounter.increment(tagId);
+        return tag;
     }
 
     /**
@@ -124,6 +160,7 @@ public class TagService {
     public void deactivateTag(UUID tagId) {
         Tag tag = getTag(tagId);
         tag.deactivate();
+        evict(tag);
     }
 
     /**
@@ -133,13 +170,16 @@ public class TagService {
     public void activateTag(UUID tagId) {
         Tag tag = getTag(tagId);
         tag.activate();
+        evict(tag);
     }
 
     /**
-     * 가장 많이 사용된 태그 조회
+     * 가장 많이 사용된 태그 조회 (활성 태그 목록 캐시에서 - 반영 대기 중인 사용 횟수 포함)
      */
-    public List<Tag> getTopUsedTags(UUID userId, int limit) {
-        return tagRepository.findTopUsedTags(userId, limit);
+    public List<TagSnapshot> getTopUsedTags(UUID userId, int limit) {
+        return getActiveTags(userId).stream()
+                .limit(limit)
+                .toList();
     }
 
     /**
@@ -163,4 +203,15 @@ public class TagService {
             }
         }
     }
-}
\ No newline at end of file
+
+    // === Private Methods ===
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private void evict(Tag tag) {
+        cacheInvalidator.evict(CacheNames.TAGS, tag.getId());
+        cacheInvalidator.evict(CacheNames.ACTIVE_TAGS, tag.getUser().getId());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.starlogue.service;
+
+import com.example.starlogue.domain.Tag;
+
+import java.util.UUID;
+
+/**
+ * 캐시용 태그 값 (불변)
+ * - 엔티티 대신 값만 담아 여러 요청/스레드가 공유해도 안전
+ * - usageCount는 캐시 시점의 DB 값, 반영 대기 중인 증가분은 TagUsageCounter가 더한다
+ */
+public record TagSnapshot(
+        UUID id,
+        UUID userId,
+        String name,
+        String colorHex,
+        String icon,
+        int usageCount,
+        boolean active
+) {
+    public static TagSnapshot from(Tag tag) {
+        return new TagSnapshot(
+                tag.getId(),
+                tag.getUser().getId(),
+                tag.getName(),
+                tag.getColorHex(),
+                tag.getIcon(),
+                tag.getUsageCount(),
+                tag.getIsActive()
+        );
+    }
+
+    public TagSnapshot withUsageCount(int usageCount) {
+        return new TagSnapshot(id, userId, name, colorHex, icon, usageCount, active);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.starlogue.service;
+
+import com.example.starlogue.domain.User;
+import com.example.starlogue.domain.enums.AuthProvider;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 캐시용 사용자 프로필 + 누적 통계 (불변)
+ * - 프로필 수정 / 점수 변경(UserScoreChangedEvent) 시 무효화
+ */
+public record UserProfile(
+        UUID id,
+        String email,
+        String nickname,
+        String profileImageUrl,
+        AuthProvider authProvider,
+        int totalStudyMinutes,
+        int currentStreak,
+        int longestStreak,
+        int totalStars,
+        int totalBlackHoles,
+        LocalDateTime createdAt
+) {
+    public static UserProfile from(User user) {
+        return new UserProfile(
+                user.getId(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getProfileImageUrl(),
+                user.getAuthProvider(),
+                user.getTotalStudyMinutes(),
+                user.getCurrentStreak(),
+                user.getLongestStreak(),
+                user.getTotalStars(),
+                user.getTotalBlackHoles(),
+                user.getCreatedAt()
+        );
+    }
+}
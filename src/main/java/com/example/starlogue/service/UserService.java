@@ -1,14 +1,27 @@
 package com.example.starlogue.service;
 
+import com.example.starlogue.config.cache.CacheInvalidator;
+import com.example.starlogue.config.cache.CacheNames;
 import com.example.starlogue.domain.User;
 import com.example.starlogue.domain.enums.AuthProvider;
+import com.example.starlogue.domain.event.UserScoreChangedEvent;
 import com.example.starlogue.repository.UserRepository;
+import com.example.starlogue.service.ranking.LeaderboardService;
+import com.example.starlogue.service.ranking.LeaderboardWindow;
+import com.example.starlogue.service.ranking.ScoreRanking;
+import com.example.starlogue.service.ranking.WindowedLeaderboardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,6 +29,9 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final LeaderboardService leaderboardService;
+    private final WindowedLeaderboardService windowedLeaderboardService;
+    private final CacheInvalidator cacheInvalidator;
 
     /**
      * 소셜 로그인 처리 (신규 가입 또는 기존 사용자 반환)
@@ -60,6 +76,14 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
     }
 
+    /**
+     * 사용자 프로필 + 누적 통계 조회 (캐시)
+     */
+    @Cacheable(cacheNames = CacheNames.USER_PROFILES, key = "#userId")
+    public UserProfile getUserProfile(UUID userId) {
+        return UserProfile.from(getUser(userId));
+    }
+
     public User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
@@ -78,9 +102,19 @@ public class UserService {
         }
 
         user.updateProfile(nickname, profileImageUrl);
+        cacheInvalidator.evict(CacheNames.USER_PROFILES, userId);
         return user;
     }
 
+    /**
+     * 점수 변경 시 프로필 캐시 무효화
+     * - 발행한 트랜잭션 안에서 바로 실행 → NOTIFY가 같은 트랜잭션에 실리고, 로컬 제거는 커밋 후 (CacheInvalidator)
+     */
+    @EventListener
+    public void onUserScoreChanged(UserScoreChangedEvent event) {
+        cacheInvalidator.evict(CacheNames.USER_PROFILES, event.userId());
+    }
+
     /**
      * 일일 성공 기록 (streak 갱신)
      */
@@ -88,6 +122,7 @@ public class UserService {
     public void recordDailySuccess(UUID userId) {
         User user = getUser(userId);
         user.recordDailySuccess();
+        userRepository.save(user);  // 랭킹 이벤트 발행
     }
 
     /**
@@ -97,6 +132,7 @@ public class UserService {
     public void recordDailyFailure(UUID userId) {
         User user = getUser(userId);
         user.recordDailyFailure();
+        userRepository.save(user);  // 랭킹 이벤트 발행
     }
 
     /**
@@ -106,24 +142,62 @@ public class UserService {
     public void addStudyMinutes(UUID userId, int minutes) {
         User user = getUser(userId);
         user.addStudyMinutes(minutes);
+        userRepository.save(user);  // 랭킹 이벤트 발행
     }
 
     /**
      * Streak 랭킹 조회
      */
     public List<User> getStreakRanking(int limit) {
-        return userRepository.findTopByCurrentStreak(limit);
+        return findAllInOrder(leaderboardService.getTopStreakUserIds(limit));
     }
 
     /**
      * 총 공부시간 랭킹 조회
      */
     public List<User> getStudyTimeRanking(int limit) {
-        return userRepository.findTopByTotalStudyMinutes(limit);
+        return findAllInOrder(leaderboardService.getTopStudyTimeUserIds(limit));
     }
 
+    /**
+     * 기간별 공부시간 랭킹 조회 (오늘 / 주간 / 월간)
+     */
+    public List<WindowRanking> getWindowRanking(LeaderboardWindow window, int limit) {
+        List<ScoreRanking.Entry> entries = windowedLeaderboardService.getTop(window, limit);
+        Map<UUID, User> userMap = userRepository.findAllById(
+                        entries.stream().map(ScoreRanking.Entry::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return entries.stream()
+                .filter(entry -> userMap.containsKey(entry.userId()))
+                .map(entry -> new WindowRanking(userMap.get(entry.userId()), entry.score()))
+                .toList();
+    }
+
+    /**
+     * 내 순위 / 백분위 조회
+     */
+    public LeaderboardService.MyRanking getMyRanking(UUID userId) {
+        return leaderboardService.getMyRanking(userId);
+    }
+
+    public record WindowRanking(User user, long studySeconds) {}
+
     // === Private Methods ===
 
+    /**
+     * PK IN 조회 후 랭킹 순서대로 정렬
+     */
+    private List<User> findAllInOrder(List<UUID> userIds) {
+        Map<UUID, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return userIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private String ensureUniqueNickname(String nickname) {
         String candidate = nickname;
         int suffix = 1;
@@ -0,0 +1,56 @@
+package com.example.starlogue.service.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 외부 AI 호출 동시 실행 수 제한 (벌크헤드)
+ * - 가상 스레드 모드에서는 요청 스레드 풀이 사실상 무제한이라, 풀 크기가 해주던 역압을 여기서 대신한다
+ * - 자리가 나지 않으면 대기 시간 후 예외 → 호출부의 폴백 콘텐츠로 처리
+ */
+@Slf4j
+@Component
+public class AiCallLimiter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Counter rejected;
+
+    public AiCallLimiter(@Value("${starlogue.ai.max-concurrent-calls:16}") int maxConcurrentCalls,
+                         @Value("${starlogue.ai.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+                         MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.rejected = Counter.builder("starlogue.ai.calls.rejected")
+                .description("동시 호출 제한으로 거절된 AI 호출 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T call(String operation, Supplier<T> action) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 호출 대기 중 인터럽트되었습니다.", e);
+        }
+        if (!acquired) {
+            rejected.increment();
+            log.warn("AI 동시 호출 한도 초과 - operation: {}", operation);
+            throw new IllegalStateException("AI 호출이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return action.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.starlogue.service.concurrency;
+
+/**
+ * 같은 Idempotency-Key를 다른 요청 본문에 재사용 (422)
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException() {
+        super("같은 Idempotency-Key가 다른 요청 내용으로 사용되었습니다. 새 키로 다시 시도해주세요.");
+    }
+}
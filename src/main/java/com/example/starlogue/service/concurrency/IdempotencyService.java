@@ -0,0 +1,118 @@
+package com.example.starlogue.service.concurrency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 요청 중복 제거
+ * - (사용자, 작업, 키) 단위로 첫 실행 결과를 메모리에 보관하고 재시도 요청에는 그대로 돌려준다
+ * - 같은 키로 동시에 들어온 요청은 첫 요청이 끝날 때까지 (최대 wait-timeout) 기다렸다가 같은 결과를 받는다
+ * - 성공한 결과만 보관 (실패하면 키를 비워 클라이언트가 다시 시도할 수 있게)
+ * - 요청 본문 지문을 함께 보관해 같은 키를 다른 본문에 재사용하면 거절 (422)
+ * - 최대 건수 + TTL로 제한 (단일 노드 메모리 캐시)
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final Cache<String, Entry> results;
+    private final long waitTimeoutMs;
+    private final MeterRegistry meterRegistry;
+
+    public IdempotencyService(
+            @Value("${starlogue.idempotency.ttl-seconds:600}") long ttlSeconds,
+            @Value("${starlogue.idempotency.max-entries:100000}") long maxEntries,
+            @Value("${starlogue.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.results = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxEntries)
+                .build();
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 키가 없으면 그대로 실행, 있으면 첫 실행 결과를 재사용
+     *
+     * @param request 요청 본문 (없으면 null) - 같은 키의 재시도인지 확인하는 지문으로만 쓴다
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(UUID userId, String operation, String idempotencyKey, Object request, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String cacheKey = userId + ":" + operation + ":" + idempotencyKey;
+        Entry mine = new Entry(Objects.hashCode(request), new CompletableFuture<>());
+        Entry existing = results.asMap().putIfAbsent(cacheKey, mine);
+
+        if (existing != null) {
+            if (existing.fingerprint() != mine.fingerprint()) {
+                throw new IdempotencyKeyReusedException();
+            }
+            meterRegistry.counter("starlogue.idempotency.replays", "operation", operation).increment();
+            log.debug("멱등 요청 재사용 - operation: {}, key: {}", operation, idempotencyKey);
+            return (T) await(existing.result());
+        }
+
+        // Error 등 어떤 예외로 끝나도 기다리는 요청이 풀리도록 Throwable 전체를 처리
+        try {
+            T result = action.get();
+            mine.result().complete(result);
+            return result;
+        } catch (Throwable e) {
+            results.asMap().remove(cacheKey, mine);
+            mine.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // === Private Methods ===
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("같은 Idempotency-Key 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 대기 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 요청 본문 지문 + 첫 실행 결과
+     */
+    private record Entry(int fingerprint, CompletableFuture<Object> result) {}
+}
@@ -0,0 +1,90 @@
+package com.example.starlogue.service.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락(@Version) 충돌 시 트랜잭션 단위 재시도
+ * - 시도마다 새 트랜잭션에서 엔티티를 다시 읽고 처음부터 다시 실행
+ * - 이미 바깥 트랜잭션 안이면 재시도해도 같은 영속성 컨텍스트라 의미가 없으므로 한 번만 실행
+ * - 충돌/재시도/포기 횟수를 operation 태그로 기록 (starlogue.optimistic.*)
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${starlogue.concurrency.optimistic-retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${starlogue.concurrency.optimistic-retry.backoff-ms:20}")
+    private long backoffMs;
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                counter("starlogue.optimistic.conflicts", operation).increment();
+                if (attempt >= maxAttempts) {
+                    counter("starlogue.optimistic.exhausted", operation).increment();
+                    log.warn("낙관적 락 재시도 초과 - operation: {}, attempts: {}", operation, attempt);
+                    throw e;
+                }
+
+                counter("starlogue.optimistic.retries", operation).increment();
+                log.debug("낙관적 락 충돌 - 재시도 operation: {}, attempt: {}", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // === Private Methods ===
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 행을 두고 경쟁한 요청끼리 다시 부딪히지 않도록 지터를 섞어 대기
+     */
+    private void backoff(int attempt) {
+        long delay = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+}
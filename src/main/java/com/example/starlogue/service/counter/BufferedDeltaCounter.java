@@ -0,0 +1,65 @@
+package com.example.starlogue.service.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔티티별 증감분을 메모리에 모아두는 카운터
+ * - 증가는 LongAdder(스트라이프)로 처리해 핫 키에서도 경합이 없다
+ * - drain()으로 모인 증감분을 꺼내 배치 UPDATE로 반영한다
+ */
+public class BufferedDeltaCounter {
+
+    private final ConcurrentHashMap<UUID, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    public void increment(UUID id) {
+        add(id, 1);
+    }
+
+    public void add(UUID id, long delta) {
+        deltas.computeIfAbsent(id, key -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 아직 반영되지 않은 증감분
+     */
+    public long pending(UUID id) {
+        LongAdder adder = deltas.get(id);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * 모인 증감분을 꺼내고 0으로 초기화
+     * - 값이 0인 키는 제거해 맵이 계속 커지지 않게 한다
+     */
+    public Map<UUID, Long> drain() {
+        Map<UUID, Long> drained = new HashMap<>();
+        deltas.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drained.put(id, delta);
+            } else if (deltas.remove(id, adder)) {
+                // 제거 직전에 들어온 증가분은 새 카운터로 옮긴다
+                long late = adder.sumThenReset();
+                if (late != 0) {
+                    add(id, late);
+                }
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * 반영 실패 시 꺼낸 증감분 되돌리기
+     */
+    public void restore(Map<UUID, Long> drained) {
+        drained.forEach(this::add);
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.starlogue.service.counter;
+
+import com.example.starlogue.config.datasource.Workload;
+import com.example.starlogue.config.datasource.WorkloadPool;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 흑역사 조회수 버퍼
+ * - 조회마다 행을 갱신하지 않고 메모리에 모았다가 주기적으로 배치 UPDATE
+ * - 인기 흑역사 한 행에 쓰기가 몰리는 것을 막는다
+ * - 한 번의 반영은 한 트랜잭션 (실패 시 전부 롤백되므로 버퍼 복원과 DB 상태가 어긋나지 않음)
+ */
+@Slf4j
+@Component
+public class DarkHistoryViewCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE dark_histories SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BufferedDeltaCounter counter = new BufferedDeltaCounter();
+
+    public DarkHistoryViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void increment(UUID darkHistoryId) {
+        counter.increment(darkHistoryId);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pending(UUID darkHistoryId) {
+        return counter.pending(darkHistoryId);
+    }
+
+    /**
+     * 모인 조회수 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${starlogue.dark-history.view-flush-interval-ms:5000}")
+    @WorkloadPool(Workload.BATCH)
+    public void flush() {
+        Map<UUID, Long> drained = counter.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        // id 순으로 갱신해 다른 쓰기와 행 잠금 순서를 맞춘다
+        List<Object[]> args = new ArrayList<>(drained.size());
+        drained.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> args.add(new Object[]{entry.getValue(), entry.getKey()}));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, args));
+            log.debug("조회수 반영 - 흑역사: {} 건", drained.size());
+        } catch (RuntimeException e) {
+            counter.restore(drained);
+            log.warn("조회수 반영 실패, 다음 주기에 재시도 - 흑역사: {} 건", drained.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.starlogue.service.counter;
+
+import com.example.starlogue.config.cache.CacheInvalidator;
+import com.example.starlogue.config.cache.CacheNames;
+import com.example.starlogue.config.datasource.Workload;
+import com.example.starlogue.config.datasource.WorkloadPool;
+import com.example.starlogue.service.TagSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 태그 사용 횟수 버퍼
+ * - 세션 시작마다 태그 행을 잠그지 않고 메모리에 모았다가 주기적으로 한 번에 UPDATE
+ * - 기본 태그처럼 많은 세션이 같이 쓰는 태그 행에 쓰기가 몰리는 것을 막는다
+ * - 조회 시 아직 반영되지 않은 증가분을 더해 정렬한다 (withPending)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagUsageCounter {
+
+    // 여러 태그를 한 문장으로 (id 순으로 넘겨 행 잠금 순서를 고정)
+    private static final String FLUSH_SQL =
+            "UPDATE tags t SET usage_count = t.usage_count + d.delta " +
+                    "FROM unnest(?::uuid[], ?::bigint[]) AS d(id, delta) " +
+                    "WHERE t.id = d.id " +
+                    "RETURNING t.id, t.user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidator cacheInvalidator;
+    private final BufferedDeltaCounter counter = new BufferedDeltaCounter();
+
+    /**
+     * 사용 횟수 1 증가
+     * - 트랜잭션 안이면 커밋된 뒤에만 더한다 (세션 시작이 롤백되면 집계하지 않음)
+     */
+    public void increment(UUID tagId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.increment(tagId);
+                }
+            });
+            return;
+        }
+        counter.increment(tagId);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 사용 횟수
+     */
+    public long pending(UUID tagId) {
+        return counter.pending(tagId);
+    }
+
+    /**
+     * 반영 대기 중인 사용 횟수를 더한 태그
+     */
+    public TagSnapshot withPending(TagSnapshot tag) {
+        long pending = counter.pending(tag.id());
+        return pending == 0 ? tag : tag.withUsageCount(tag.usageCount() + (int) pending);
+    }
+
+    /**
+     * 반영 대기 중인 사용 횟수를 더해 사용 횟수 내림차순으로 다시 정렬 (같으면 기존 순서 유지)
+     */
+    public List<TagSnapshot> withPending(List<TagSnapshot> tags) {
+        if (counter.isEmpty()) {
+            return tags;
+        }
+        return tags.stream()
+                .map(this::withPending)
+                .sorted(Comparator.comparingInt(TagSnapshot::usageCount).reversed())
+                .toList();
+    }
+
+    /**
+     * 모인 사용 횟수 일괄 반영
+     * - 반영된 태그의 이 노드 캐시는 비운다 (캐시 값 + 대기분이 반영 직후 줄어 보이지 않도록)
+     * - 다른 노드의 캐시는 TTL 동안 근사값 (정렬용이라 브로드캐스트하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${starlogue.tag.usage-flush-interval-ms:5000}")
+    @WorkloadPool(Workload.BATCH)
+    public void flush() {
+        Map<UUID, Long> drained = counter.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        UUID[] ids = drained.keySet().stream().sorted().toArray(UUID[]::new);
+        Long[] deltas = new Long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            deltas[i] = drained.get(ids[i]);
+        }
+
+        Set<UUID> userIds = new HashSet<>();
+        try {
+            jdbcTemplate.query(FLUSH_SQL, (PreparedStatement ps) -> {
+                ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids));
+                ps.setArray(2, ps.getConnection().createArrayOf("bigint", deltas));
+            }, rs -> {
+                cacheInvalidator.evictLocal(CacheNames.TAGS, rs.getObject(1, UUID.class));
+                userIds.add(rs.getObject(2, UUID.class));
+            });
+            log.debug("태그 사용 횟수 반영 - 태그: {} 건", ids.length);
+        } catch (RuntimeException e) {
+            counter.restore(drained);
+            log.warn("태그 사용 횟수 반영 실패, 다음 주기에 재시도 - 태그: {} 건", ids.length, e);
+            return;
+        }
+        userIds.forEach(userId -> cacheInvalidator.evictLocal(CacheNames.ACTIVE_TAGS, userId));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
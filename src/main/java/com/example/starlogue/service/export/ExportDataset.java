@@ -0,0 +1,49 @@
+package com.example.starlogue.service.export;
+
+/**
+ * 내보내기 데이터셋 (사용자 본인 데이터만, 컬럼은 명시적으로 고정)
+ */
+public enum ExportDataset {
+
+    SESSIONS("session",
+            "SELECT s.id, s.started_at, s.ended_at, s.status, s.is_success, " +
+                    "s.total_study_seconds, s.total_pause_seconds, s.max_focus_gauge, s.stamina, " +
+                    "s.broken_promise_count, s.pledge_content, s.pledge_target_minutes, t.name AS tag_name, " +
+                    "s.daily_record_id " +
+                    "FROM study_sessions s LEFT JOIN tags t ON t.id = s.tag_id " +
+                    "WHERE s.user_id = ? ORDER BY s.started_at, s.id"),
+
+    STOP_EVENTS("stop_event",
+            "SELECT se.id, se.session_id, se.reason, se.stopped_at, se.resumed_at, se.expected_minutes, " +
+                    "se.actual_pause_seconds, se.is_broken_promise, se.note " +
+                    "FROM stop_events se JOIN study_sessions s ON s.id = se.session_id " +
+                    "WHERE s.user_id = ? ORDER BY se.stopped_at, se.id"),
+
+    DAILY_RECORDS("daily_record",
+            "SELECT dr.id, dr.record_date, dr.record_type, dr.total_study_minutes, dr.session_count, " +
+                    "dr.success_session_count, dr.failed_session_count, dr.max_focus_minutes, " +
+                    "dr.mvp_time_range, dr.streak_day, dr.primary_color_hex " +
+                    "FROM daily_records dr WHERE dr.user_id = ? ORDER BY dr.record_date, dr.id"),
+
+    DARK_HISTORIES("dark_history",
+            "SELECT dh.id, dr.record_date, dh.title, dh.content, dh.original_pledge, dh.failed_minutes, " +
+                    "dh.broken_promise_count, dh.satire_level, dh.is_public, dh.created_at " +
+                    "FROM dark_histories dh JOIN daily_records dr ON dr.id = dh.daily_record_id " +
+                    "WHERE dr.user_id = ? ORDER BY dr.record_date, dh.id");
+
+    private final String type;
+    private final String sql;
+
+    ExportDataset(String type, String sql) {
+        this.type = type;
+        this.sql = sql;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+}
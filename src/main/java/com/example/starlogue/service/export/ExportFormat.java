@@ -0,0 +1,25 @@
+package com.example.starlogue.service.export;
+
+/**
+ * 기록 내보내기 형식
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),  // 한 줄에 JSON 하나 (모든 데이터셋, type 필드로 구분)
+    CSV("text/csv; charset=UTF-8", "csv");      // 데이터셋 하나만
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.starlogue.service.export;
+
+import com.example.starlogue.config.datasource.Workload;
+import com.example.starlogue.config.datasource.WorkloadPool;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사용자 전체 기록 내보내기 (스트리밍)
+ * - 데이터셋마다 forward-only 커서로 fetchSize 만큼씩 읽어 바로 응답 스트림에 쓴다 (중간 리스트 없음)
+ * - 기록 양과 상관없이 메모리 사용량은 fetchSize + 출력 버퍼 수준으로 일정
+ * - PostgreSQL은 트랜잭션 안(autocommit off)에서만 fetchSize 커서를 쓰므로 읽기 전용 트랜잭션으로 감싼다
+ */
+@Slf4j
+@Service
+public class HistoryExportService {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    public HistoryExportService(DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                @Value("${starlogue.export.fetch-size:500}") int fetchSize) {
+        this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        this.cursorJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 요청 파라미터 해석 (스트리밍 시작 전에 검증해서 잘못된 요청은 400으로 응답)
+     */
+    public ExportRequest parseRequest(String format, String dataset) {
+        ExportFormat exportFormat = parseEnum(ExportFormat.class, format, "지원하지 않는 형식입니다: ");
+        if (dataset == null || dataset.isBlank()) {
+            if (exportFormat == ExportFormat.CSV) {
+                throw new IllegalArgumentException("CSV는 dataset을 하나 지정해야 합니다. (sessions, stop-events, daily-records, dark-histories)");
+            }
+            return new ExportRequest(exportFormat, List.of(ExportDataset.values()));
+        }
+        return new ExportRequest(exportFormat,
+                List.of(parseEnum(ExportDataset.class, dataset, "지원하지 않는 데이터셋입니다: ")));
+    }
+
+    /**
+     * 내보내기 실행 (응답 스트림에 직접 기록)
+     */
+    @WorkloadPool(Workload.ANALYTICS)
+    public void export(UUID userId, ExportRequest request, boolean gzip, OutputStream target) throws IOException {
+        OutputStream out = gzip
+                ? new GZIPOutputStream(target, BUFFER_SIZE)
+                : new BufferedOutputStream(target, BUFFER_SIZE);
+        long startedAt = System.currentTimeMillis();
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try {
+                if (request.format() == ExportFormat.NDJSON) {
+                    writeNdjson(userId, request.datasets(), out);
+                } else {
+                    writeCsv(userId, request.datasets().get(0), out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        if (out instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        out.flush();
+
+        log.info("기록 내보내기 완료 - userId: {}, format: {}, datasets: {}, {}ms",
+                userId, request.format(), request.datasets(), System.currentTimeMillis() - startedAt);
+    }
+
+    // === NDJSON ===
+
+    private void writeNdjson(UUID userId, List<ExportDataset> datasets, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        for (ExportDataset dataset : datasets) {
+            stream(userId, dataset, (rs, meta) -> {
+                generator.writeStartObject();
+                generator.writeStringField("type", dataset.getType());
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    generator.writeFieldName(meta.getColumnLabel(i));
+                    generator.writeObject(toExportValue(rs.getObject(i)));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            });
+        }
+        generator.flush();
+    }
+
+    // === CSV ===
+
+    private void writeCsv(UUID userId, ExportDataset dataset, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        boolean[] headerWritten = {false};
+
+        stream(userId, dataset, (rs, meta) -> {
+            int columns = meta.getColumnCount();
+            if (!headerWritten[0]) {
+                for (int i = 1; i <= columns; i++) {
+                    writeCsvCell(writer, meta.getColumnLabel(i), i == columns);
+                }
+                headerWritten[0] = true;
+            }
+            for (int i = 1; i <= columns; i++) {
+                Object value = toExportValue(rs.getObject(i));
+                writeCsvCell(writer, value != null ? value.toString() : "", i == columns);
+            }
+        });
+        writer.flush();
+    }
+
+    private static void writeCsvCell(Writer writer, String value, boolean last) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (quote) {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(value);
+        }
+        writer.write(last ? "\r\n" : ",");
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 데이터셋 한 개를 커서로 읽으며 행마다 콜백 (행을 모아두지 않음)
+     */
+    private void stream(UUID userId, ExportDataset dataset, RowWriter rowWriter) {
+        cursorJdbcTemplate.query(dataset.getSql(), (ResultSetExtractor<Void>) rs -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            try {
+                while (rs.next()) {
+                    rowWriter.write(rs, meta);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        }, userId);
+    }
+
+    private static Object toExportValue(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String errorMessage) {
+        try {
+            return Enum.valueOf(type, value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(errorMessage + value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs, ResultSetMetaData meta) throws SQLException, IOException;
+    }
+
+    /**
+     * 검증된 내보내기 요청
+     */
+    public record ExportRequest(ExportFormat format, List<ExportDataset> datasets) {
+
+        public String fileName(LocalDate today, boolean gzip) {
+            String name = datasets.size() == 1
+                    ? "starlogue-" + datasets.get(0).name().toLowerCase(Locale.ROOT).replace('_', '-')
+                    : "starlogue-export";
+            return name + "-" + today + "." + format.getExtension() + (gzip ? ".gz" : "");
+        }
+    }
+}
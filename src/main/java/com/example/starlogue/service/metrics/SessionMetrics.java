@@ -0,0 +1,116 @@
+package com.example.starlogue.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 라이프사이클 / WebSocket 계측
+ * - 미터는 모두 기동 시 한 번 등록해 두고 기록 시에는 조회/태그 생성 없이 nanoTime 차이만 넘긴다 (할당 없음)
+ * - 진행 중/일시 중단 세션 수는 스크레이프마다 DB를 읽지 않도록 주기적으로 세어 둔 값을 노출 (전체 노드 기준)
+ * - 유예 대기 / 연결 사용자 수는 노드별 (SessionConnectionService 맵 크기)
+ */
+@Slf4j
+@Component
+public class SessionMetrics {
+
+    // 일시 중단도 status는 IN_PROGRESS 그대로 - paused 플래그로 나눈다
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FILTER (WHERE NOT paused), COUNT(*) FILTER (WHERE paused) " +
+                    "FROM study_sessions WHERE status = 'IN_PROGRESS'";
+
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<SessionOperation, Timer> operationTimers = new EnumMap<>(SessionOperation.class);
+    private final Timer sendTimer;
+    private final Counter desertedCounter;
+    private final Counter reconnectedCounter;
+
+    private volatile long inProgressSessions;
+    private volatile long pausedSessions;
+
+    public SessionMetrics(MeterRegistry meterRegistry, JdbcTemplate jdbcTemplate) {
+        this.meterRegistry = meterRegistry;
+        this.jdbcTemplate = jdbcTemplate;
+
+        for (SessionOperation operation : SessionOperation.values()) {
+            operationTimers.put(operation, Timer.builder("starlogue.session.operation")
+                    .description("세션 라이프사이클 처리 시간 (하트비트 포함, 횟수 = 처리율)")
+                    .tag("operation", operation.tagValue())
+                    .register(meterRegistry));
+        }
+        this.sendTimer = Timer.builder("starlogue.websocket.send")
+                .description("SimpMessagingTemplate 사용자 전송 시간")
+                .register(meterRegistry);
+        this.desertedCounter = Counter.builder("starlogue.session.deserted")
+                .description("유예 시간 만료로 탈주 처리된 세션 수")
+                .register(meterRegistry);
+        this.reconnectedCounter = Counter.builder("starlogue.session.reconnected")
+                .description("유예 시간 안에 재연결된 횟수")
+                .register(meterRegistry);
+
+        Gauge.builder("starlogue.session.active", this, metrics -> metrics.inProgressSessions)
+                .description("진행 중인 세션 수 (일시 중단 제외)")
+                .register(meterRegistry);
+        Gauge.builder("starlogue.session.paused", this, metrics -> metrics.pausedSessions)
+                .description("일시 중단된 세션 수")
+                .register(meterRegistry);
+    }
+
+    // === 기록 ===
+
+    /**
+     * 동작 처리 시간 기록 (startNanos = 시작 시 System.nanoTime())
+     */
+    public void record(SessionOperation operation, long startNanos) {
+        operationTimers.get(operation).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSend(long startNanos) {
+        sendTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void deserted() {
+        desertedCounter.increment();
+    }
+
+    public void reconnected() {
+        reconnectedCounter.increment();
+    }
+
+    /**
+     * 노드별 연결 상태 게이지 (맵 크기)
+     */
+    public void registerConnectionGauges(Map<?, ?> connections, Map<?, ?> gracePeriodTimers) {
+        Gauge.builder("starlogue.websocket.connected-users", connections, Map::size)
+                .description("이 노드에 WebSocket으로 연결된 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("starlogue.session.grace-pending", gracePeriodTimers, Map::size)
+                .description("연결이 끊겨 유예 시간을 기다리는 세션 수")
+                .register(meterRegistry);
+    }
+
+    // === 세션 수 ===
+
+    @Scheduled(fixedDelayString = "${starlogue.metrics.session-count-interval-ms:15000}")
+    public void refreshSessionCounts() {
+        try {
+            jdbcTemplate.query(COUNT_SQL, rs -> {
+                inProgressSessions = rs.getLong(1);
+                pausedSessions = rs.getLong(2);
+            });
+        } catch (DataAccessException e) {
+            log.debug("세션 수 집계 실패 - 이전 값 유지: {}", e.getMessage());
+        }
+    }
+}
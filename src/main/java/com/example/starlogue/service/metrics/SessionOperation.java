@@ -0,0 +1,19 @@
+package com.example.starlogue.service.metrics;
+
+import java.util.Locale;
+
+/**
+ * 계측하는 세션 라이프사이클 동작 (starlogue.session.operation 의 operation 태그)
+ */
+public enum SessionOperation {
+    START,
+    PAUSE,
+    RESUME,
+    HEARTBEAT,
+    END,
+    ABANDON;
+
+    String tagValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,488 @@
+package com.example.starlogue.service.migration;
+
+import com.example.starlogue.config.cache.CacheInvalidator;
+import com.example.starlogue.config.cache.CacheNames;
+import com.example.starlogue.config.datasource.Workload;
+import com.example.starlogue.config.datasource.WorkloadPool;
+import com.example.starlogue.domain.Tag;
+import com.example.starlogue.domain.enums.SessionStatus;
+import com.example.starlogue.domain.event.HistoryImportedEvent;
+import com.example.starlogue.domain.event.UserScoreChangedEvent;
+import com.example.starlogue.repository.DailyRecordRepository;
+import com.example.starlogue.repository.StudySessionRepository;
+import com.example.starlogue.repository.TagRepository;
+import com.example.starlogue.service.DarkHistoryService;
+import com.example.starlogue.service.stats.TagStatsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.f4b6a3.uuid.UuidCreator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 다른 타이머 앱 기록 일괄 가져오기
+ * - NDJSON을 한 줄씩 검증하며 CSV 임시 파일로 변환 (세션 수와 상관없이 메모리 일정)
+ * - daily_records / study_sessions / stop_events 를 PostgreSQL COPY로 적재 (엔티티/행 단위 INSERT 없음)
+ * - 일일 집계, streak, 사용자 누적 통계, 태그 사용 횟수는 적재 후 집합 연산 쿼리로 한 번에 재계산
+ * - 블랙홀 날짜의 흑역사는 AI 없이 템플릿 문구로 일괄 생성
+ * - 가져오는 기록은 사용자의 기존 기록(세션/일일 기록)보다 이전이어야 한다 → 기존 데이터는 건드리지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HistoryImportService {
+
+    private static final String COPY_DAILY_RECORDS =
+            "COPY daily_records (id, user_id, record_date, record_type, total_study_minutes, brightness, size, " +
+                    "streak_day, is_streak_start, session_count, success_session_count, failed_session_count, " +
+                    "max_focus_minutes, has_supernova, version, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String COPY_SESSIONS =
+            "COPY study_sessions (id, user_id, tag_id, daily_record_id, started_at, ended_at, " +
+                    "total_study_seconds, total_pause_seconds, stamina, focus_gauge, max_focus_gauge, status, " +
+                    "is_success, broken_promise_count, paused, version, created_at, updated_at) " +
+                    "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String COPY_STOP_EVENTS =
+            "COPY stop_events (id, session_id, reason, stopped_at, resumed_at, expected_minutes, " +
+                    "actual_pause_seconds, is_broken_promise, note, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+
+    // 일일 집계 (DailyRecord.addSessionResult / updateStarProperties / finalize 와 같은 규칙)
+    private static final String ROLL_UP_DAILY_RECORDS =
+            "UPDATE daily_records dr SET " +
+                    "session_count = s.session_count, " +
+                    "success_session_count = s.success_count, " +
+                    "failed_session_count = s.session_count - s.success_count, " +
+                    "total_study_minutes = s.study_minutes, " +
+                    "max_focus_minutes = s.max_focus_seconds / 60, " +
+                    "brightness = LEAST(100, s.study_minutes / 3), " +
+                    "size = CASE WHEN s.study_minutes >= 240 THEN 5 WHEN s.study_minutes >= 180 THEN 4 " +
+                    "WHEN s.study_minutes >= 120 THEN 3 WHEN s.study_minutes >= 60 THEN 2 ELSE 1 END, " +
+                    "has_supernova = s.max_focus_seconds / 60 >= 30, " +
+                    "record_type = CASE WHEN s.success_count > 0 THEN 'STAR' ELSE 'BLACK_HOLE' END " +
+                    "FROM (SELECT ss.daily_record_id, COUNT(*) AS session_count, " +
+                    "SUM(CASE WHEN ss.is_success THEN 1 ELSE 0 END) AS success_count, " +
+                    "SUM(ss.total_study_seconds / 60) AS study_minutes, " +
+                    "MAX(ss.max_focus_gauge) AS max_focus_seconds " +
+                    "FROM study_sessions ss " +
+                    "WHERE ss.user_id = ? AND ss.started_at < ? " +
+                    "GROUP BY ss.daily_record_id) s " +
+                    "WHERE dr.id = s.daily_record_id";
+
+    // 연속 성공 (gaps-and-islands: 날짜 - 순번이 같으면 같은 연속 구간)
+    private static final String ROLL_UP_STREAKS =
+            "UPDATE daily_records dr SET streak_day = g.streak_day, is_streak_start = (g.streak_day = 1) " +
+                    "FROM (SELECT id, CAST(ROW_NUMBER() OVER (PARTITION BY island ORDER BY record_date) AS int) AS streak_day " +
+                    "FROM (SELECT id, record_date, " +
+                    "record_date - CAST(ROW_NUMBER() OVER (ORDER BY record_date) AS int) AS island " +
+                    "FROM daily_records WHERE user_id = ? AND record_date < ? AND record_type = 'STAR') stars) g " +
+                    "WHERE dr.id = g.id";
+
+    // 사용자 누적 통계 (기존 값에 더함, 현재 streak은 아직 이어지는 경우에만 반영)
+    private static final String ROLL_UP_USER =
+            "UPDATE users u SET " +
+                    "total_study_minutes = u.total_study_minutes + h.study_minutes, " +
+                    "total_stars = u.total_stars + h.stars, " +
+                    "total_black_holes = u.total_black_holes + h.black_holes, " +
+                    "longest_streak = GREATEST(u.longest_streak, h.longest_streak), " +
+                    "current_streak = CASE WHEN u.current_streak = 0 AND h.last_date >= ? " +
+                    "THEN h.last_streak ELSE u.current_streak END, " +
+                    "version = u.version + 1, updated_at = ? " +
+                    "FROM (SELECT SUM(total_study_minutes) AS study_minutes, " +
+                    "COUNT(*) FILTER (WHERE record_type = 'STAR') AS stars, " +
+                    "COUNT(*) FILTER (WHERE record_type = 'BLACK_HOLE') AS black_holes, " +
+                    "MAX(streak_day) AS longest_streak, MAX(record_date) AS last_date, " +
+                    "(ARRAY_AGG(CASE WHEN record_type = 'STAR' THEN streak_day ELSE 0 END ORDER BY record_date DESC))[1] AS last_streak " +
+                    "FROM daily_records WHERE user_id = ? AND record_date < ?) h " +
+                    "WHERE u.id = ? " +
+                    "RETURNING u.current_streak, u.total_study_minutes";
+
+    private static final String ROLL_UP_TAG_USAGE =
+            "UPDATE tags t SET usage_count = t.usage_count + c.session_count " +
+                    "FROM (SELECT tag_id, COUNT(*) AS session_count FROM study_sessions " +
+                    "WHERE user_id = ? AND started_at < ? AND tag_id IS NOT NULL GROUP BY tag_id) c " +
+                    "WHERE t.id = c.tag_id";
+
+    private final StudySessionRepository sessionRepository;
+    private final DailyRecordRepository dailyRecordRepository;
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheInvalidator cacheInvalidator;
+    private final TagStatsService tagStatsService;
+    private final DarkHistoryService darkHistoryService;
+
+    @Value("${starlogue.import.max-sessions:100000}")
+    private int maxSessions;
+
+    @Value("${starlogue.import.max-session-hours:24}")
+    private int maxSessionHours;
+
+    /**
+     * 기록 가져오기 (NDJSON, 시작 시각 오름차순)
+     */
+    @Transactional
+    @WorkloadPool(Workload.BATCH)
+    public ImportResult importHistory(UUID userId, InputStream input) throws IOException {
+        lockUser(userId);  // 같은 사용자의 동시 가져오기 / 정산 직렬화
+
+        LocalDate cutoffDate = resolveCutoffDate(userId);
+        LocalDateTime cutoff = cutoffDate.atStartOfDay();
+        Path workDir = Files.createTempDirectory("starlogue-import-");
+
+        try {
+            Staging staging = new Staging(userId, cutoff, tagIdsByName(userId), workDir);
+            staging.stageAll(input);
+
+            copyIn(COPY_DAILY_RECORDS, staging.dailyRecordFile);
+            copyIn(COPY_SESSIONS, staging.sessionFile);
+            copyIn(COPY_STOP_EVENTS, staging.stopEventFile);
+
+            Timestamp cutoffTimestamp = Timestamp.valueOf(cutoff);
+            Date cutoffSqlDate = Date.valueOf(cutoffDate);
+            jdbcTemplate.update(ROLL_UP_DAILY_RECORDS, userId, cutoffTimestamp);
+            jdbcTemplate.update(ROLL_UP_STREAKS, userId, cutoffSqlDate);
+            jdbcTemplate.update(ROLL_UP_TAG_USAGE, userId, cutoffTimestamp);
+            cacheInvalidator.evict(CacheNames.ACTIVE_TAGS, userId);  // 사용 횟수 정렬이 바뀜
+            tagStatsService.rollUp(userId, cutoff);  // 태그별 일일 집계 + 대표 색상
+            int darkHistoryCount = darkHistoryService.createForImportedRecords(userId, cutoffDate);
+            int[] totals = jdbcTemplate.queryForObject(ROLL_UP_USER,
+                    (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)},
+                    Date.valueOf(LocalDate.now().minusDays(1)), Timestamp.valueOf(LocalDateTime.now()),
+                    userId, cutoffSqlDate, userId);
+
+            // 리더보드 반영 (커밋 후)
+            eventPublisher.publishEvent(new UserScoreChangedEvent(userId, totals[0], totals[1]));
+            eventPublisher.publishEvent(new HistoryImportedEvent(
+                    userId, staging.firstDate, staging.lastDate, staging.sessionCount));
+
+            log.info("기록 가져오기 완료 - userId: {}, sessions: {}, stopEvents: {}, days: {}, darkHistories: {}, {} ~ {}",
+                    userId, staging.sessionCount, staging.stopEventCount, staging.dayCount, darkHistoryCount,
+                    staging.firstDate, staging.lastDate);
+
+            return new ImportResult(staging.sessionCount, staging.stopEventCount, staging.dayCount,
+                    staging.firstDate, staging.lastDate, staging.unknownTagCount);
+        } finally {
+            FileSystemUtils.deleteRecursively(workDir);
+        }
+    }
+
+    // === Private Methods ===
+
+    private void lockUser(UUID userId) {
+        List<UUID> locked = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id = ? FOR UPDATE", UUID.class, userId);
+        if (locked.isEmpty()) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+        }
+    }
+
+    /**
+     * 가져오는 세션이 끝나야 하는 날짜 (오늘 / 첫 세션 / 첫 일일 기록 중 가장 이른 날)
+     */
+    private LocalDate resolveCutoffDate(UUID userId) {
+        LocalDate cutoff = LocalDate.now();
+
+        LocalDateTime firstStartedAt = sessionRepository.findFirstStartedAt(userId);
+        if (firstStartedAt != null && firstStartedAt.toLocalDate().isBefore(cutoff)) {
+            cutoff = firstStartedAt.toLocalDate();
+        }
+        LocalDate firstRecordDate = dailyRecordRepository.findFirstRecordDate(userId);
+        if (firstRecordDate != null && firstRecordDate.isBefore(cutoff)) {
+            cutoff = firstRecordDate;
+        }
+        return cutoff;
+    }
+
+    private Map<String, UUID> tagIdsByName(UUID userId) {
+        Map<String, UUID> tagIds = new HashMap<>();
+        for (Tag tag : tagRepository.findByUserIdOrderByUsageCountDesc(userId)) {
+            tagIds.putIfAbsent(tag.getName(), tag.getId());
+        }
+        return tagIds;
+    }
+
+    /**
+     * 임시 CSV 파일 → COPY FROM STDIN (트랜잭션 커넥션 그대로 사용)
+     */
+    private long copyIn(String sql, Path file) {
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * 파일 검증 + CSV 변환
+     * - 세션은 시작 시각 오름차순이므로 날짜가 바뀔 때마다 일일 기록 id를 새로 만든다
+     */
+    private final class Staging {
+
+        private final UUID userId;
+        private final LocalDateTime cutoff;
+        private final Map<String, UUID> tagIds;
+        private final Path dailyRecordFile;
+        private final Path sessionFile;
+        private final Path stopEventFile;
+        private final String now = LocalDateTime.now().toString();
+
+        private int sessionCount;
+        private int stopEventCount;
+        private int dayCount;
+        private int unknownTagCount;
+        private LocalDate firstDate;
+        private LocalDate lastDate;
+        private UUID currentRecordId;
+        private LocalDateTime previousEndedAt;
+
+        private Staging(UUID userId, LocalDateTime cutoff, Map<String, UUID> tagIds, Path workDir) {
+            this.userId = userId;
+            this.cutoff = cutoff;
+            this.tagIds = tagIds;
+            this.dailyRecordFile = workDir.resolve("daily_records.csv");
+            this.sessionFile = workDir.resolve("study_sessions.csv");
+            this.stopEventFile = workDir.resolve("stop_events.csv");
+        }
+
+        private void stageAll(InputStream input) throws IOException {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+                 Writer records = Files.newBufferedWriter(dailyRecordFile, StandardCharsets.UTF_8);
+                 Writer sessions = Files.newBufferedWriter(sessionFile, StandardCharsets.UTF_8);
+                 Writer stops = Files.newBufferedWriter(stopEventFile, StandardCharsets.UTF_8)) {
+
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    if (sessionCount >= maxSessions) {
+                        throw new IllegalArgumentException("한 번에 가져올 수 있는 세션은 최대 " + maxSessions + "개입니다.");
+                    }
+                    stage(parse(line, lineNumber), lineNumber, records, sessions, stops);
+                }
+            }
+
+            if (sessionCount == 0) {
+                throw new IllegalArgumentException("가져올 세션이 없습니다.");
+            }
+        }
+
+        private ImportedSession parse(String line, int lineNumber) {
+            try {
+                return objectMapper.readValue(line, ImportedSession.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 형식이 올바르지 않습니다. " + e.getOriginalMessage());
+            }
+        }
+
+        private void stage(ImportedSession session, int lineNumber,
+                           Writer records, Writer sessions, Writer stops) throws IOException {
+            LocalDateTime startedAt = session.startedAt();
+            LocalDateTime endedAt = session.endedAt();
+            validateSession(startedAt, endedAt, lineNumber);
+
+            // 날짜가 바뀌면 일일 기록 추가 (집계는 적재 후 쿼리로)
+            LocalDate recordDate = startedAt.toLocalDate();
+            if (!recordDate.equals(lastDate)) {
+                currentRecordId = UuidCreator.getTimeOrderedEpoch();
+                writeRow(records, currentRecordId, userId, recordDate, "PENDING",
+                        0, 0, 0, 0, false, 0, 0, 0, 0, false, 0, now, now);
+                if (firstDate == null) {
+                    firstDate = recordDate;
+                }
+                lastDate = recordDate;
+                dayCount++;
+            }
+
+            UUID sessionId = UuidCreator.getTimeOrderedEpoch();
+            List<ImportedSession.Stop> sessionStops = session.stops() != null ? session.stops() : List.of();
+
+            // 중단 이벤트 → 집중 구간 / 중단 시간 / 스태미나 (StudySession.stop/resume 과 같은 규칙)
+            LocalDateTime focusStart = startedAt;
+            long maxFocusSeconds = 0;
+            long lastFocusSeconds = 0;
+            long pausedSeconds = 0;      // 재개 안 한 중단 포함 (공부 시간 계산용)
+            int totalPauseSeconds = 0;   // 재개한 중단만 (세션 누적 중단 시간)
+            int brokenPromiseCount = 0;
+            int stamina = 100;
+
+            for (int i = 0; i < sessionStops.size(); i++) {
+                ImportedSession.Stop stop = sessionStops.get(i);
+                boolean last = i == sessionStops.size() - 1;
+                validateStop(stop, focusStart, endedAt, last, lineNumber);
+
+                long focusSeconds = Duration.between(focusStart, stop.stoppedAt()).getSeconds();
+                maxFocusSeconds = Math.max(maxFocusSeconds, focusSeconds);
+                lastFocusSeconds = 0;
+                stamina -= stop.reason().getStaminaPenalty();
+
+                LocalDateTime pauseEnd = stop.resumedAt() != null ? stop.resumedAt() : endedAt;
+                pausedSeconds += Duration.between(stop.stoppedAt(), pauseEnd).getSeconds();
+
+                Integer actualPauseSeconds = null;
+                boolean brokenPromise = false;
+                if (stop.resumedAt() != null) {
+                    actualPauseSeconds = (int) Duration.between(stop.stoppedAt(), stop.resumedAt()).getSeconds();
+                    brokenPromise = actualPauseSeconds > stop.expectedMinutes() * 60;
+                    totalPauseSeconds += actualPauseSeconds;
+                    if (brokenPromise) {
+                        brokenPromiseCount++;
+                        stamina -= 10;
+                    }
+                }
+
+                writeRow(stops, UuidCreator.getTimeOrderedEpoch(), sessionId, stop.reason().name(),
+                        stop.stoppedAt(), stop.resumedAt(), stop.expectedMinutes(), actualPauseSeconds,
+                        brokenPromise, stop.note(), now, now);
+                stopEventCount++;
+                focusStart = stop.resumedAt();
+            }
+
+            if (focusStart != null) {
+                lastFocusSeconds = Duration.between(focusStart, endedAt).getSeconds();
+                maxFocusSeconds = Math.max(maxFocusSeconds, lastFocusSeconds);
+            }
+
+            long maxStudySeconds = Duration.between(startedAt, endedAt).getSeconds() - pausedSeconds;
+            int studySeconds = session.studySeconds() != null ? session.studySeconds() : (int) maxStudySeconds;
+            if (studySeconds < 0 || studySeconds > maxStudySeconds) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 공부 시간이 세션 시간(중단 제외)을 벗어납니다.");
+            }
+
+            stamina = Math.clamp(stamina, 0, 100);
+            boolean success = !Boolean.FALSE.equals(session.success()) && stamina > 0;
+            UUID tagId = resolveTag(session.tag());
+
+            writeRow(sessions, sessionId, userId, tagId, currentRecordId, startedAt, endedAt,
+                    studySeconds, totalPauseSeconds, stamina,
+                    Math.min(lastFocusSeconds, studySeconds), Math.min(maxFocusSeconds, studySeconds),
+                    success ? SessionStatus.COMPLETED.name() : SessionStatus.FAILED.name(),
+                    success, brokenPromiseCount, false, 0, now, now);
+            sessionCount++;
+            previousEndedAt = endedAt;
+        }
+
+        private void validateSession(LocalDateTime startedAt, LocalDateTime endedAt, int lineNumber) {
+            if (startedAt == null || endedAt == null) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: startedAt, endedAt은 필수입니다.");
+            }
+            if (!endedAt.isAfter(startedAt)) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 종료 시각이 시작 시각보다 빠릅니다.");
+            }
+            if (Duration.between(startedAt, endedAt).toHours() >= maxSessionHours) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 세션은 " + maxSessionHours + "시간을 넘을 수 없습니다.");
+            }
+            if (previousEndedAt != null && startedAt.isBefore(previousEndedAt)) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 세션은 시작 시각 순으로 겹치지 않아야 합니다.");
+            }
+            if (!endedAt.isBefore(cutoff)) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: " + cutoff.toLocalDate()
+                        + " 이전에 끝난 세션만 가져올 수 있습니다. (기존 기록과 겹침)");
+            }
+        }
+
+        private void validateStop(ImportedSession.Stop stop, LocalDateTime focusStart, LocalDateTime endedAt,
+                                  boolean last, int lineNumber) {
+            if (focusStart == null) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 재개 없이 끝난 중단 뒤에 다른 중단이 있습니다.");
+            }
+            if (stop.reason() == null || stop.stoppedAt() == null) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 중단 사유와 중단 시각은 필수입니다.");
+            }
+            if (stop.expectedMinutes() == null || stop.expectedMinutes() < 1) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 예상 중단 시간은 1분 이상이어야 합니다.");
+            }
+            if (stop.stoppedAt().isBefore(focusStart) || !stop.stoppedAt().isBefore(endedAt)) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 중단 시각이 세션 구간을 벗어나거나 순서가 맞지 않습니다.");
+            }
+            if (stop.resumedAt() == null && !last) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 마지막 중단만 재개 시각을 생략할 수 있습니다.");
+            }
+            if (stop.resumedAt() != null
+                    && (stop.resumedAt().isBefore(stop.stoppedAt()) || stop.resumedAt().isAfter(endedAt))) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 재개 시각이 세션 구간을 벗어납니다.");
+            }
+        }
+
+        private UUID resolveTag(String tagName) {
+            if (tagName == null || tagName.isBlank()) {
+                return null;
+            }
+            UUID tagId = tagIds.get(tagName.trim());
+            if (tagId == null) {
+                unknownTagCount++;
+            }
+            return tagId;
+        }
+    }
+
+    /**
+     * CSV 한 행 (null → 빈 칸 = NULL, 문자열은 항상 따옴표 → 빈 문자열과 구분)
+     */
+    private static void writeRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value instanceof String text) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * 가져오기 결과
+     *
+     * @param unknownTagCount 이름이 일치하는 태그가 없어 태그 없이 저장된 세션 수
+     */
+    public record ImportResult(
+            int sessionCount,
+            int stopEventCount,
+            int dayCount,
+            LocalDate firstDate,
+            LocalDate lastDate,
+            int unknownTagCount
+    ) {}
+}
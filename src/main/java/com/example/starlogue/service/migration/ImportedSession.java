@@ -0,0 +1,36 @@
+package com.example.starlogue.service.migration;
+
+import com.example.starlogue.domain.enums.StopReason;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가져오기 파일의 세션 한 줄 (NDJSON)
+ * 예: {"startedAt":"2024-03-01T09:00:00","endedAt":"2024-03-01T11:00:00","tag":"수학",
+ *      "stops":[{"reason":"REST","stoppedAt":"2024-03-01T10:00:00","resumedAt":"2024-03-01T10:10:00","expectedMinutes":10}]}
+ *
+ * @param studySeconds 순수 공부 시간 (생략 시 전체 시간 - 중단 시간)
+ * @param success      성공 여부 (생략 시 성공, 스태미나가 바닥나면 실패)
+ * @param tag          태그 이름 (사용자의 기존 태그와 이름이 같으면 연결)
+ */
+public record ImportedSession(
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        Integer studySeconds,
+        Boolean success,
+        String tag,
+        List<Stop> stops
+) {
+
+    /**
+     * @param resumedAt 재개 시각 (마지막 중단만 생략 가능 - 중단 중 종료)
+     */
+    public record Stop(
+            StopReason reason,
+            LocalDateTime stoppedAt,
+            LocalDateTime resumedAt,
+            Integer expectedMinutes,
+            String note
+    ) {}
+}
@@ -0,0 +1,106 @@
+package com.example.starlogue.service.ranking;
+
+import com.example.starlogue.config.datasource.Workload;
+import com.example.starlogue.config.datasource.WorkloadPool;
+import com.example.starlogue.domain.event.UserScoreChangedEvent;
+import com.example.starlogue.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인메모리 리더보드 (Streak / 총 공부시간)
+ * - 시작 시 DB에서 한 번 적재하고, 이후에는 User 도메인 이벤트로 갱신
+ * - 랭킹 조회가 users 테이블 정렬 스캔을 타지 않도록 한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LeaderboardService {
+
+    private final UserRepository userRepository;
+
+    private volatile ScoreRanking streakRanking = new ScoreRanking();
+    private volatile ScoreRanking studyTimeRanking = new ScoreRanking();
+
+    // === 적재 ===
+
+    /**
+     * DB 기준으로 순위표 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @WorkloadPool(Workload.BATCH)
+    public void rebuild() {
+        ScoreRanking streak = new ScoreRanking();
+        ScoreRanking studyTime = new ScoreRanking();
+
+        for (Object[] row : userRepository.findAllRankingScores()) {
+            UUID userId = (UUID) row[0];
+            streak.put(userId, ((Number) row[1]).longValue());
+            studyTime.put(userId, ((Number) row[2]).longValue());
+        }
+
+        this.streakRanking = streak;
+        this.studyTimeRanking = studyTime;
+        log.info("리더보드 적재 완료 - users: {}", streak.size());
+    }
+
+    /**
+     * 커밋된 점수 변경 반영
+     * - 메모리 갱신만 하므로 트랜잭션 없이 실행 (클래스의 readOnly 트랜잭션을 물려받지 않게)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onUserScoreChanged(UserScoreChangedEvent event) {
+        update(event.userId(), event.currentStreak(), event.totalStudyMinutes());
+    }
+
+    public void update(UUID userId, int currentStreak, int totalStudyMinutes) {
+        streakRanking.put(userId, currentStreak);
+        studyTimeRanking.put(userId, totalStudyMinutes);
+    }
+
+    // === 조회 ===
+
+    /**
+     * Streak 상위 N명 (userId 순서)
+     */
+    public List<UUID> getTopStreakUserIds(int limit) {
+        return streakRanking.top(limit).stream()
+                .map(ScoreRanking.Entry::userId)
+                .toList();
+    }
+
+    /**
+     * 총 공부시간 상위 N명 (userId 순서)
+     */
+    public List<UUID> getTopStudyTimeUserIds(int limit) {
+        return studyTimeRanking.top(limit).stream()
+                .map(ScoreRanking.Entry::userId)
+                .toList();
+    }
+
+    /**
+     * 내 순위 / 백분위
+     */
+    public MyRanking getMyRanking(UUID userId) {
+        return new MyRanking(
+                streakRanking.rankOf(userId),
+                studyTimeRanking.rankOf(userId)
+        );
+    }
+
+    public record MyRanking(
+            ScoreRanking.Rank streak,
+            ScoreRanking.Rank studyTime
+    ) {}
+}
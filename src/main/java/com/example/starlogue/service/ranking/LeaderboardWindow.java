@@ -0,0 +1,10 @@
+package com.example.starlogue.service.ranking;
+
+/**
+ * 기간별 리더보드 구분
+ */
+public enum LeaderboardWindow {
+    TODAY,    // 오늘 (진행 중 세션 포함)
+    WEEKLY,   // 최근 7일
+    MONTHLY   // 최근 30일
+}
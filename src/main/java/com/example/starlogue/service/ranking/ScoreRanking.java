@@ -0,0 +1,259 @@
+package com.example.starlogue.service.ranking;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 점수 기반 순위표 (인덱서블 스킵 리스트)
+ * - 정렬 기준: 점수 내림차순, 동점이면 userId 오름차순
+ * - 각 링크에 건너뛰는 노드 수(span)를 저장해 순위 계산을 O(log n)으로 처리
+ * - 갱신/순위 조회 O(log n), 상위 N명 조회 O(log n + N)
+ */
+public class ScoreRanking {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final Node head = new Node(null, Long.MAX_VALUE, MAX_LEVEL);
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int level = 1;
+    private int size = 0;
+
+    // === 갱신 ===
+
+    /**
+     * 점수 설정 (없으면 추가, 있으면 재배치)
+     */
+    public void put(UUID userId, long score) {
+        lock.writeLock().lock();
+        try {
+            Node existing = nodes.get(userId);
+            if (existing != null) {
+                if (existing.score == score) {
+                    return;
+                }
+                delete(existing);
+            }
+            insert(userId, score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 증감 (없으면 0점에서 시작)
+     */
+    public long add(UUID userId, long delta) {
+        lock.writeLock().lock();
+        try {
+            Node existing = nodes.get(userId);
+            long score = (existing != null ? existing.score : 0) + delta;
+            if (existing != null) {
+                delete(existing);
+            }
+            insert(userId, score);
+            return score;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID userId) {
+        lock.writeLock().lock();
+        try {
+            Node existing = nodes.get(userId);
+            if (existing != null) {
+                delete(existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // === 조회 ===
+
+    /**
+     * 상위 N명
+     */
+    public List<Entry> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> result = new ArrayList<>(Math.min(limit, size));
+            Node x = head.next[0];
+            while (x != null && result.size() < limit) {
+                result.add(new Entry(x.userId, x.score));
+                x = x.next[0];
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 내 순위 (동점자는 같은 순위)
+     * - 순위표에 없는 사용자는 0점으로 간주
+     */
+    public Rank rankOf(UUID userId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(userId);
+            long score = node != null ? node.score : 0;
+            int total = node != null ? size : size + 1;
+            return new Rank(countAbove(score) + 1, score, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long scoreOf(UUID userId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(userId);
+            return node != null ? node.score : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 점수가 score보다 높은 사용자 수
+     */
+    private int countAbove(long score) {
+        int count = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].score > score) {
+                count += x.span[i];
+                x = x.next[i];
+            }
+        }
+        return count;
+    }
+
+    private void insert(UUID userId, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while (x.next[i] != null && precedes(x.next[i], score, userId)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(userId, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        size++;
+        nodes.put(userId, node);
+    }
+
+    private void delete(Node target) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && precedes(x.next[i], target.score, target.userId)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+
+        size--;
+        nodes.remove(target.userId);
+    }
+
+    /**
+     * node가 (score, userId)보다 앞 순위인지
+     */
+    private static boolean precedes(Node node, long score, UUID userId) {
+        return node.score > score
+                || (node.score == score && node.userId.compareTo(userId) < 0);
+    }
+
+    private static int randomLevel() {
+        int lvl = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (lvl < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            lvl++;
+        }
+        return lvl;
+    }
+
+    private static final class Node {
+        private final UUID userId;
+        private final long score;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(UUID userId, long score, int level) {
+            this.userId = userId;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    // === 결과 타입 ===
+
+    public record Entry(UUID userId, long score) {}
+
+    /**
+     * 순위 정보
+     * - topPercent: 상위 몇 %인지 (1등 / 100명 = 1.0)
+     */
+    public record Rank(int rank, long score, int total) {
+        public double topPercent() {
+            return total == 0 ? 0 : Math.round(rank * 1000.0 / total) / 10.0;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.starlogue.service.ranking;
+
+import com.example.starlogue.config.datasource.Workload;
+import com.example.starlogue.config.datasource.WorkloadPool;
+import com.example.starlogue.domain.event.FocusTimeAddedEvent;
+import com.example.starlogue.domain.event.HistoryImportedEvent;
+import com.example.starlogue.domain.event.StudySessionRecordedEvent;
+import com.example.starlogue.repository.StudySessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기간별 공부시간 리더보드 (오늘 실시간 / 주간 / 월간)
+ * - 날짜별 점수 버킷을 링 버퍼(30칸)로 유지
+ * - 날짜가 넘어가면 만료되는 하루치 버킷만 빼서 주간/월간 순위표를 갱신 (전체 재계산 없음)
+ * - 오늘 실시간 보드는 진행 중인 세션의 하트비트 시간까지 포함
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class WindowedLeaderboardService {
+
+    private static final int WEEK_DAYS = 7;
+    private static final int MONTH_DAYS = 30;
+
+    private final StudySessionRepository sessionRepository;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final DayBucket[] buckets = new DayBucket[MONTH_DAYS];
+
+    private ScoreRanking weekly = new ScoreRanking();
+    private ScoreRanking monthly = new ScoreRanking();
+    private ScoreRanking todayLive = new ScoreRanking();
+    private final Map<UUID, Long> inProgressSeconds = new HashMap<>();  // 오늘 진행 중 세션 누적 (userId 기준)
+    private long currentDay;
+
+    @Autowired
+    public WindowedLeaderboardService(StudySessionRepository sessionRepository) {
+        this(sessionRepository, Clock.systemDefaultZone());
+    }
+
+    /**
+     * 날짜 전환 테스트용 (시계 주입)
+     */
+    WindowedLeaderboardService(StudySessionRepository sessionRepository, Clock clock) {
+        this.sessionRepository = sessionRepository;
+        this.clock = clock;
+        this.currentDay = today().toEpochDay();
+    }
+
+    // === 적재 ===
+
+    /**
+     * 최근 30일 세션 기록으로 보드 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @WorkloadPool(Workload.BATCH)
+    public void rebuild() {
+        LocalDate today = today();
+        List<Object[]> daily = sessionRepository.sumStudySecondsByUserAndDateSince(today.minusDays(MONTH_DAYS - 1));
+        List<Object[]> live = sessionRepository.findInProgressStudySecondsSince(today.atStartOfDay());
+
+        lock.lock();
+        try {
+            resetAll(today.toEpochDay());
+            for (Object[] row : daily) {
+                UUID userId = (UUID) row[0];
+                LocalDate date = (LocalDate) row[1];
+                long seconds = ((Number) row[2]).longValue();
+                addRecorded(userId, date, seconds);
+                if (date.equals(today)) {
+                    adjust(todayLive, userId, seconds);
+                }
+            }
+            for (Object[] row : live) {
+                addLive((UUID) row[0], ((Number) row[1]).longValue());
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.info("기간별 리더보드 적재 완료 - 버킷 행: {}, 진행 중 세션: {}", daily.size(), live.size());
+    }
+
+    // === 갱신 ===
+
+    /**
+     * 커밋된 세션 결과 반영
+     * - 리스너는 메모리만 갱신하므로 트랜잭션 없이 실행 (클래스의 readOnly 트랜잭션을 물려받지 않게)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onStudySessionRecorded(StudySessionRecordedEvent event) {
+        lock.lock();
+        try {
+            advanceTo(today().toEpochDay());
+
+            // 진행 중에 하트비트로 반영된 만큼은 빼고 확정 시간으로 맞춘다
+            Long liveSeconds = inProgressSeconds.remove(event.userId());
+            if (event.recordDate().toEpochDay() == currentDay) {
+                long correction = event.studySeconds() - (liveSeconds != null ? liveSeconds : 0);
+                adjust(todayLive, event.userId(), correction);
+            } else if (liveSeconds != null) {
+                adjust(todayLive, event.userId(), -liveSeconds);
+            }
+
+            addRecorded(event.userId(), event.recordDate(), event.studySeconds());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 커밋된 하트비트 집중 시간 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onFocusTimeAdded(FocusTimeAddedEvent event) {
+        recordLiveSeconds(event.userId(), event.seconds());
+    }
+
+    /**
+     * 가져온 과거 기록이 최근 30일에 걸치면 보드 재구성 (드문 작업이라 전체 재적재)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onHistoryImported(HistoryImportedEvent event) {
+        if (event.lastDate().isAfter(today().minusDays(MONTH_DAYS))) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 진행 중 세션의 집중 시간 반영 (하트비트)
+     */
+    public void recordLiveSeconds(UUID userId, int seconds) {
+        if (seconds <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            advanceTo(today().toEpochDay());
+            addLive(userId, seconds);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // === 조회 ===
+
+    /**
+     * 기간별 상위 N명
+     */
+    public List<ScoreRanking.Entry> getTop(LeaderboardWindow window, int limit) {
+        lock.lock();
+        try {
+            advanceTo(today().toEpochDay());
+            return rankingOf(window).top(limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // === Private Methods ===
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    private ScoreRanking rankingOf(LeaderboardWindow window) {
+        return switch (window) {
+            case TODAY -> todayLive;
+            case WEEKLY -> weekly;
+            case MONTHLY -> monthly;
+        };
+    }
+
+    private void addRecorded(UUID userId, LocalDate date, long seconds) {
+        long day = date.toEpochDay();
+        if (day > currentDay || day <= currentDay - MONTH_DAYS || seconds == 0) {
+            return;  // 윈도우 밖
+        }
+
+        bucketOf(day).seconds.merge(userId, seconds, Long::sum);
+        adjust(monthly, userId, seconds);
+        if (day > currentDay - WEEK_DAYS) {
+            adjust(weekly, userId, seconds);
+        }
+    }
+
+    private void addLive(UUID userId, long seconds) {
+        inProgressSeconds.merge(userId, seconds, Long::sum);
+        adjust(todayLive, userId, seconds);
+    }
+
+    /**
+     * 날짜 전진: 만료된 하루치 버킷만 주간/월간 보드에서 차감
+     */
+    private void advanceTo(long today) {
+        if (today <= currentDay) {
+            return;
+        }
+        if (today - currentDay >= MONTH_DAYS) {
+            resetAll(today);
+            return;
+        }
+
+        while (currentDay < today) {
+            currentDay++;
+
+            // 주간 윈도우에서 빠지는 날
+            DayBucket leavingWeek = bucketAt(currentDay - WEEK_DAYS);
+            if (leavingWeek != null) {
+                leavingWeek.seconds.forEach((userId, seconds) -> adjust(weekly, userId, -seconds));
+            }
+
+            // 월간 윈도우에서 빠지는 날 (같은 슬롯을 오늘 버킷으로 재사용)
+            DayBucket leavingMonth = bucketAt(currentDay - MONTH_DAYS);
+            if (leavingMonth != null) {
+                leavingMonth.seconds.forEach((userId, seconds) -> adjust(monthly, userId, -seconds));
+            }
+            buckets[slot(currentDay)] = new DayBucket(currentDay);
+        }
+
+        // 오늘 실시간 보드는 날짜가 바뀌면 새로 시작
+        todayLive = new ScoreRanking();
+        inProgressSeconds.clear();
+    }
+
+    private void resetAll(long today) {
+        currentDay = today;
+        for (int i = 0; i < MONTH_DAYS; i++) {
+            buckets[i] = null;
+        }
+        weekly = new ScoreRanking();
+        monthly = new ScoreRanking();
+        todayLive = new ScoreRanking();
+        inProgressSeconds.clear();
+    }
+
+    private DayBucket bucketOf(long day) {
+        DayBucket bucket = bucketAt(day);
+        if (bucket == null) {
+            bucket = new DayBucket(day);
+            buckets[slot(day)] = bucket;
+        }
+        return bucket;
+    }
+
+    private DayBucket bucketAt(long day) {
+        DayBucket bucket = buckets[slot(day)];
+        return bucket != null && bucket.day == day ? bucket : null;
+    }
+
+    private static int slot(long day) {
+        return (int) Math.floorMod(day, (long) MONTH_DAYS);
+    }
+
+    private static void adjust(ScoreRanking ranking, UUID userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (ranking.add(userId, delta) <= 0) {
+            ranking.remove(userId);
+        }
+    }
+
+    /**
+     * 하루치 사용자별 공부 시간(초)
+     */
+    private static final class DayBucket {
+        private final long day;
+        private final Map<UUID, Long> seconds = new HashMap<>();
+
+        private DayBucket(long day) {
+            this.day = day;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.starlogue.service.stats;
+
+import com.example.starlogue.domain.TagDailyStat;
+import com.example.starlogue.domain.enums.StopReason;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 태그(과목)별 기간 통계 - 일일 버킷을 더한 결과
+ *
+ * @param successRate     성공 세션 비율 (0~1, 세션이 없으면 0)
+ * @param avgMaxFocusSeconds 세션별 최장 연속 집중 시간의 평균
+ * @param stopReasonMix   중단 사유별 횟수
+ */
+public record TagStats(
+        UUID tagId,
+        LocalDate from,
+        LocalDate to,
+        long studySeconds,
+        int sessionCount,
+        int successCount,
+        double successRate,
+        long avgMaxFocusSeconds,
+        int bestFocusSeconds,
+        long pauseSeconds,
+        int brokenPromiseCount,
+        Map<StopReason, Integer> stopReasonMix,
+        List<Daily> daily
+) {
+
+    /**
+     * 하루 버킷 (공부한 날만)
+     */
+    public record Daily(
+            LocalDate date,
+            int studySeconds,
+            int sessionCount,
+            int successCount,
+            int bestFocusSeconds
+    ) {
+        static Daily from(TagDailyStat stat) {
+            return new Daily(stat.getStatDate(), stat.getStudySeconds(), stat.getSessionCount(),
+                    stat.getSuccessCount(), stat.getBestFocusSeconds());
+        }
+    }
+
+    static TagStats of(UUID tagId, LocalDate from, LocalDate to, List<TagDailyStat> buckets) {
+        long studySeconds = 0;
+        long focusSecondsSum = 0;
+        long pauseSeconds = 0;
+        int sessionCount = 0;
+        int successCount = 0;
+        int bestFocusSeconds = 0;
+        int brokenPromiseCount = 0;
+        Map<StopReason, Integer> stopReasonMix = new EnumMap<>(StopReason.class);
+        for (StopReason reason : StopReason.values()) {
+            stopReasonMix.put(reason, 0);
+        }
+
+        for (TagDailyStat bucket : buckets) {
+            studySeconds += bucket.getStudySeconds();
+            focusSecondsSum += bucket.getFocusSecondsSum();
+            pauseSeconds += bucket.getPauseSeconds();
+            sessionCount += bucket.getSessionCount();
+            successCount += bucket.getSuccessCount();
+            bestFocusSeconds = Math.max(bestFocusSeconds, bucket.getBestFocusSeconds());
+            brokenPromiseCount += bucket.getBrokenPromiseCount();
+            stopReasonMix.merge(StopReason.BATHROOM, bucket.getBathroomStopCount(), Integer::sum);
+            stopReasonMix.merge(StopReason.INTERRUPTION, bucket.getInterruptionStopCount(), Integer::sum);
+            stopReasonMix.merge(StopReason.REST, bucket.getRestStopCount(), Integer::sum);
+            stopReasonMix.merge(StopReason.DISTRACTION, bucket.getDistractionStopCount(), Integer::sum);
+        }
+
+        return new TagStats(
+                tagId, from, to,
+                studySeconds,
+                sessionCount,
+                successCount,
+                sessionCount > 0 ? (double) successCount / sessionCount : 0.0,
+                sessionCount > 0 ? focusSecondsSum / sessionCount : 0,
+                bestFocusSeconds,
+                pauseSeconds,
+                brokenPromiseCount,
+                stopReasonMix,
+                buckets.stream().map(Daily::from).toList()
+        );
+    }
+}
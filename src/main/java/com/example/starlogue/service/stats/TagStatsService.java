@@ -0,0 +1,216 @@
+package com.example.starlogue.service.stats;
+
+import com.example.starlogue.config.datasource.Workload;
+import com.example.starlogue.config.datasource.WorkloadPool;
+import com.example.starlogue.domain.StopEvent;
+import com.example.starlogue.domain.StudySession;
+import com.example.starlogue.domain.enums.StopReason;
+import com.example.starlogue.repository.TagDailyStatRepository;
+import com.example.starlogue.service.TagService;
+import com.github.f4b6a3.uuid.UuidCreator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 태그(과목)별 통계
+ * - 세션이 DailyRecord에 반영될 때 (태그, 날짜) 버킷에 증분 UPSERT
+ * - 기간 통계는 버킷만 읽어서 합산 (세션/중단 이벤트를 다시 집계하지 않음)
+ * - 가져오기 / 최초 기동 시에는 세션 테이블에서 한 번에 집계 (rollUp / backfill)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TagStatsService {
+
+    // 세션 → (태그, 날짜) 버킷 일괄 집계 (중단 사유는 세션별 LATERAL 집계)
+    private static final String ROLL_UP_SQL =
+            "INSERT INTO tag_daily_stats (id, tag_id, user_id, stat_date, study_seconds, session_count, " +
+                    "success_count, focus_seconds_sum, best_focus_seconds, pause_seconds, broken_promise_count, " +
+                    "bathroom_stop_count, interruption_stop_count, rest_stop_count, distraction_stop_count, " +
+                    "created_at, updated_at) " +
+                    "SELECT gen_random_uuid(), ss.tag_id, ss.user_id, dr.record_date, SUM(ss.total_study_seconds), " +
+                    "COUNT(*), COUNT(*) FILTER (WHERE ss.is_success), SUM(ss.max_focus_gauge), MAX(ss.max_focus_gauge), " +
+                    "SUM(ss.total_pause_seconds), SUM(ss.broken_promise_count), " +
+                    "SUM(e.bathroom), SUM(e.interruption), SUM(e.rest), SUM(e.distraction), ?, ? " +
+                    "FROM study_sessions ss " +
+                    "JOIN daily_records dr ON dr.id = ss.daily_record_id " +
+                    "LEFT JOIN LATERAL (SELECT COUNT(*) FILTER (WHERE se.reason = 'BATHROOM') AS bathroom, " +
+                    "COUNT(*) FILTER (WHERE se.reason = 'INTERRUPTION') AS interruption, " +
+                    "COUNT(*) FILTER (WHERE se.reason = 'REST') AS rest, " +
+                    "COUNT(*) FILTER (WHERE se.reason = 'DISTRACTION') AS distraction " +
+                    "FROM stop_events se WHERE se.session_id = ss.id) e ON true " +
+                    "WHERE ss.tag_id IS NOT NULL %s " +
+                    "GROUP BY ss.tag_id, ss.user_id, dr.record_date ";
+
+    // 가져온 날짜는 기존 버킷과 겹치지 않는다
+    private static final String ON_CONFLICT_SKIP = "ON CONFLICT (tag_id, stat_date) DO NOTHING";
+
+    // 초기 집계: 세션 테이블이 기준 - 기동 중 먼저 생긴 실시간 버킷도 그날 세션 전체로 다시 계산
+    private static final String ON_CONFLICT_RECOMPUTE =
+            "ON CONFLICT (tag_id, stat_date) DO UPDATE SET " +
+                    "study_seconds = EXCLUDED.study_seconds, session_count = EXCLUDED.session_count, " +
+                    "success_count = EXCLUDED.success_count, focus_seconds_sum = EXCLUDED.focus_seconds_sum, " +
+                    "best_focus_seconds = EXCLUDED.best_focus_seconds, pause_seconds = EXCLUDED.pause_seconds, " +
+                    "broken_promise_count = EXCLUDED.broken_promise_count, " +
+                    "bathroom_stop_count = EXCLUDED.bathroom_stop_count, " +
+                    "interruption_stop_count = EXCLUDED.interruption_stop_count, " +
+                    "rest_stop_count = EXCLUDED.rest_stop_count, " +
+                    "distraction_stop_count = EXCLUDED.distraction_stop_count, " +
+                    "updated_at = EXCLUDED.updated_at";
+
+    // 초기 집계 필요 여부: 지난 날짜 버킷이 하나도 없음 (기동 직후 실시간 버킷은 오늘 날짜뿐)
+    private static final String NEEDS_BACKFILL_SQL =
+            "SELECT NOT EXISTS (SELECT 1 FROM tag_daily_stats WHERE stat_date < CURRENT_DATE)";
+
+    // 일일 기록 대표 색상 = 그날 가장 오래 공부한 태그
+    private static final String ROLL_UP_PRIMARY_COLOR =
+            "UPDATE daily_records dr SET primary_color_hex = c.color_hex " +
+                    "FROM (SELECT DISTINCT ON (s.stat_date) s.stat_date, t.color_hex " +
+                    "FROM tag_daily_stats s JOIN tags t ON t.id = s.tag_id " +
+                    "WHERE s.user_id = ? AND s.stat_date < ? " +
+                    "ORDER BY s.stat_date, s.study_seconds DESC, s.session_count DESC) c " +
+                    "WHERE dr.user_id = ? AND dr.record_date = c.stat_date";
+
+    private final TagDailyStatRepository tagDailyStatRepository;
+    private final TagService tagService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${starlogue.tag.stats.max-range-days:366}")
+    private long maxRangeDays;
+
+    public TagStatsService(TagDailyStatRepository tagDailyStatRepository,
+                           TagService tagService,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager) {
+        this.tagDailyStatRepository = tagDailyStatRepository;
+        this.tagService = tagService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // === 기록 ===
+
+    /**
+     * 종료된 세션을 태그 버킷에 누적 (DailyRecord 반영과 같은 트랜잭션)
+     */
+    @Transactional
+    public void recordSession(StudySession session, LocalDate statDate) {
+        if (session.getTag() == null) {
+            return;
+        }
+
+        Map<StopReason, Integer> stops = new EnumMap<>(StopReason.class);
+        for (StopEvent stopEvent : session.getStopEvents()) {
+            stops.merge(stopEvent.getReason(), 1, Integer::sum);
+        }
+
+        tagDailyStatRepository.upsertSession(
+                UuidCreator.getTimeOrderedEpoch(),
+                session.getTag().getId(),
+                session.getUser().getId(),
+                statDate,
+                session.getTotalStudySeconds(),
+                session.getIsSuccess() ? 1 : 0,
+                session.getMaxFocusGauge(),
+                session.getTotalPauseSeconds(),
+                session.getBrokenPromiseCount(),
+                stops.getOrDefault(StopReason.BATHROOM, 0),
+                stops.getOrDefault(StopReason.INTERRUPTION, 0),
+                stops.getOrDefault(StopReason.REST, 0),
+                stops.getOrDefault(StopReason.DISTRACTION, 0),
+                LocalDateTime.now());
+    }
+
+    /**
+     * 그날 가장 오래 공부한 태그의 색상
+     */
+    public Optional<String> findPrimaryColorHex(UUID userId, LocalDate date) {
+        return tagDailyStatRepository.findPrimaryColorHex(userId, date);
+    }
+
+    /**
+     * 가져온 기록 일괄 집계 (cutoff 이전 = 가져온 날짜만, 기존 버킷과 겹치지 않음)
+     */
+    @Transactional
+    public void rollUp(UUID userId, LocalDateTime cutoff) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(ROLL_UP_SQL.formatted("AND ss.user_id = ? AND ss.started_at < ?") + ON_CONFLICT_SKIP,
+                now, now, userId, Timestamp.valueOf(cutoff));
+        jdbcTemplate.update(ROLL_UP_PRIMARY_COLOR, userId, Date.valueOf(cutoff.toLocalDate()), userId);
+    }
+
+    /**
+     * 최초 기동 시 기존 세션으로 버킷 채우기 (지난 날짜 버킷이 없을 때만)
+     * - 기동 중 실시간 UPSERT가 먼저 만든 버킷은 세션 전체로 다시 계산 (DO NOTHING이면 그 전 세션이 빠짐)
+     * - 테이블을 잠가 집계 중 실시간 UPSERT는 기다리게 한다 → 집계 후 그 세션만 더해짐
+     * - 여러 노드가 동시에 실행하면 잠금을 기다린 쪽은 다시 확인하고 건너뛴다
+     * - 실패해도 기동은 계속 (다음 기동 시 재시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @WorkloadPool(Workload.BATCH)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfEmpty() {
+        try {
+            if (!needsBackfill()) {
+                return;
+            }
+            Integer buckets = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("LOCK TABLE tag_daily_stats IN SHARE ROW EXCLUSIVE MODE");
+                if (!needsBackfill()) {
+                    return 0;
+                }
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                return jdbcTemplate.update(ROLL_UP_SQL.formatted("") + ON_CONFLICT_RECOMPUTE, now, now);
+            });
+            log.info("태그 통계 초기 집계 완료 - 버킷: {} 건", buckets);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("태그 통계 초기 집계 실패 - 다음 기동 시 재시도: {}", e.getMessage());
+        }
+    }
+
+    // === 조회 ===
+
+    /**
+     * 태그 기간 통계 (본인 태그만)
+     */
+    public TagStats getStats(UUID userId, UUID tagId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + maxRangeDays + "일입니다.");
+        }
+        if (!tagService.getCachedTag(tagId).userId().equals(userId)) {
+            throw new IllegalArgumentException("태그를 찾을 수 없습니다: " + tagId);
+        }
+
+        return TagStats.of(tagId, from, to, tagDailyStatRepository.findByTagAndPeriod(tagId, from, to));
+    }
+
+    // === Private Methods ===
+
+    private boolean needsBackfill() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(NEEDS_BACKFILL_SQL, Boolean.class));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.starlogue.service.timeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LTTB (Largest-Triangle-Three-Buckets) 다운샘플링
+ * - 차트 모양(급락/급등)을 유지하면서 점 수를 threshold 개로 줄인다
+ * - 기준 값은 집중 게이지
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    public static List<TimelinePoint> downsample(List<TimelinePoint> data, int threshold) {
+        int size = data.size();
+        if (threshold >= size || threshold < 3) {
+            return data;
+        }
+
+        List<TimelinePoint> sampled = new ArrayList<>(threshold);
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int a = 0;
+        sampled.add(data.get(0));
+
+        for (int i = 0; i < threshold - 2; i++) {
+            // 다음 버킷 평균 (삼각형의 세 번째 꼭짓점)
+            int avgStart = (int) Math.floor((i + 1) * bucketSize) + 1;
+            int avgEnd = Math.min((int) Math.floor((i + 2) * bucketSize) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += data.get(j).offsetSeconds();
+                avgY += data.get(j).focusGauge();
+            }
+            int avgCount = Math.max(1, avgEnd - avgStart);
+            avgX /= avgCount;
+            avgY /= avgCount;
+
+            // 현재 버킷에서 삼각형 넓이가 가장 큰 점 선택
+            int rangeStart = (int) Math.floor(i * bucketSize) + 1;
+            int rangeEnd = (int) Math.floor((i + 1) * bucketSize) + 1;
+            TimelinePoint pointA = data.get(a);
+            double maxArea = -1;
+            int selected = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                TimelinePoint candidate = data.get(j);
+                double area = Math.abs(
+                        (pointA.offsetSeconds() - avgX) * (candidate.focusGauge() - pointA.focusGauge())
+                                - (pointA.offsetSeconds() - candidate.offsetSeconds()) * (avgY - pointA.focusGauge()));
+                if (area > maxArea) {
+                    maxArea = area;
+                    selected = j;
+                }
+            }
+
+            sampled.add(data.get(selected));
+            a = selected;
+        }
+
+        sampled.add(data.get(size - 1));
+        return sampled;
+    }
+}
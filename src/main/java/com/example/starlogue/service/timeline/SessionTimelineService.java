@@ -0,0 +1,199 @@
+package com.example.starlogue.service.timeline;
+
+import com.example.starlogue.config.datasource.Workload;
+import com.example.starlogue.config.datasource.WorkloadPool;
+import com.example.starlogue.domain.event.SessionGaugeSampledEvent;
+import com.example.starlogue.domain.event.StudySessionRecordedEvent;
+import com.example.starlogue.repository.SessionTimelineRepository;
+import com.github.f4b6a3.uuid.UuidCreator;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 타임라인 (집중 게이지/스태미나 시계열)
+ * - 진행 중인 세션은 메모리 버퍼에 이어 붙이고, 주기적으로 바뀐 세션만 배치 upsert
+ * - 종료된 세션은 마지막 반영 후 메모리에서 내린다
+ * - 조회 시 메모리 → DB 순으로 찾고 LTTB로 요청한 점 수만큼 줄여서 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SessionTimelineService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO session_timelines (id, session_id, data, point_count, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?) " +
+                    "ON CONFLICT (session_id) DO UPDATE SET data = EXCLUDED.data, " +
+                    "point_count = EXCLUDED.point_count, updated_at = EXCLUDED.updated_at";
+
+    private final SessionTimelineRepository timelineRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${starlogue.session.timeline.idle-eviction-minutes:360}")
+    private long idleEvictionMinutes;
+
+    private final Map<UUID, LiveTimeline> live = new ConcurrentHashMap<>();
+
+    // === 기록 ===
+
+    /**
+     * 커밋된 게이지 변화 기록
+     * - 커밋 이후 단계라 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션에서 조회 (첫 샘플 시 저장된 타임라인 로딩)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onGaugeSampled(SessionGaugeSampledEvent event) {
+        LiveTimeline timeline = liveTimelineOf(event.sessionId());
+        synchronized (timeline) {
+            timeline.builder.append(new TimelinePoint(event.offsetSeconds(), event.focusGauge(), event.stamina()));
+            timeline.dirty = true;
+            timeline.touchedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 세션이 일일 기록에 반영됨 (종료/포기/탈주) → 다음 반영 후 메모리에서 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onStudySessionRecorded(StudySessionRecordedEvent event) {
+        LiveTimeline timeline = live.get(event.sessionId());
+        if (timeline != null) {
+            synchronized (timeline) {
+                timeline.finished = true;
+            }
+        }
+    }
+
+    // === 조회 ===
+
+    /**
+     * 세션 타임라인 (시작점 포함, 최대 maxPoints 개로 다운샘플링)
+     */
+    public TimelineView getTimeline(UUID sessionId, int maxPoints) {
+        List<TimelinePoint> points = new ArrayList<>();
+        points.add(TimelinePoint.ORIGIN);
+
+        LiveTimeline timeline = live.get(sessionId);
+        if (timeline != null) {
+            synchronized (timeline) {
+                points.addAll(timeline.builder.points());
+            }
+        } else {
+            timelineRepository.findDataBySessionId(sessionId)
+                    .ifPresent(data -> points.addAll(TimelineBuilder.decode(data).points()));
+        }
+
+        return new TimelineView(points.size(), Lttb.downsample(points, maxPoints));
+    }
+
+    // === 반영 ===
+
+    /**
+     * 바뀐 타임라인 일괄 upsert
+     */
+    @Scheduled(fixedDelayString = "${starlogue.session.timeline.flush-interval-ms:30000}")
+    @WorkloadPool(Workload.BATCH)
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime idleThreshold = now.minusMinutes(idleEvictionMinutes);
+        List<Object[]> args = new ArrayList<>();
+        List<LiveTimeline> flushed = new ArrayList<>();
+
+        live.forEach((sessionId, timeline) -> {
+            synchronized (timeline) {
+                if (timeline.dirty) {
+                    args.add(new Object[]{
+                            UuidCreator.getTimeOrderedEpoch(), sessionId, timeline.builder.encode(),
+                            timeline.builder.pointCount(), Timestamp.valueOf(now), Timestamp.valueOf(now)
+                    });
+                    timeline.dirty = false;
+                    flushed.add(timeline);
+                }
+            }
+        });
+
+        if (!args.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+                log.debug("세션 타임라인 반영 - {} 건", args.size());
+            } catch (RuntimeException e) {
+                flushed.forEach(timeline -> {
+                    synchronized (timeline) {
+                        timeline.dirty = true;
+                    }
+                });
+                log.warn("세션 타임라인 반영 실패, 다음 주기에 재시도 - {} 건", args.size(), e);
+                return;
+            }
+        }
+
+        // 반영이 끝난 종료 세션 / 오래 갱신이 없는 세션은 메모리에서 제거 (이후 조회는 DB)
+        live.entrySet().removeIf(entry -> {
+            LiveTimeline timeline = entry.getValue();
+            synchronized (timeline) {
+                return !timeline.dirty && (timeline.finished || timeline.touchedAt.isBefore(idleThreshold));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 메모리 버퍼 조회 (서버 재시작 후 첫 기록이면 DB에 저장된 내용부터 이어 붙인다)
+     */
+    private LiveTimeline liveTimelineOf(UUID sessionId) {
+        LiveTimeline timeline = live.get(sessionId);
+        if (timeline != null) {
+            return timeline;
+        }
+
+        TimelineBuilder builder = timelineRepository.findDataBySessionId(sessionId)
+                .map(TimelineBuilder::decode)
+                .orElseGet(TimelineBuilder::new);
+        LiveTimeline loaded = new LiveTimeline(builder);
+        LiveTimeline existing = live.putIfAbsent(sessionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static final class LiveTimeline {
+        private final TimelineBuilder builder;
+        private boolean dirty;
+        private boolean finished;
+        private LocalDateTime touchedAt = LocalDateTime.now();
+
+        private LiveTimeline(TimelineBuilder builder) {
+            this.builder = builder;
+        }
+    }
+
+    /**
+     * 조회 결과
+     *
+     * @param totalPoints 다운샘플링 전 점 수
+     * @param points      다운샘플링된 점들
+     */
+    public record TimelineView(int totalPoints, List<TimelinePoint> points) {}
+}
@@ -0,0 +1,144 @@
+package com.example.starlogue.service.timeline;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션 타임라인 압축 버퍼
+ *
+ * 저장 형식 (bytea):
+ * - [버전 1바이트] + 런(run) 반복
+ * - 런 = varint(반복 횟수), zigzag varint(Δ시간), zigzag varint(Δ집중), zigzag varint(Δ스태미나)
+ * - 델타는 직전 점 기준 (첫 점은 TimelinePoint.ORIGIN 기준)
+ * - 같은 델타가 이어지는 구간(일정 간격 하트비트 동안의 꾸준한 집중 = 한 직선)은 런 하나로 합친다
+ *
+ * 꾸준히 집중하는 한 시간은 런 몇 개(수십 바이트)로 끝나고,
+ * 중단/재개/스태미나 변화가 잦아도 점당 4~6바이트 수준이다.
+ * 스레드 안전하지 않음 - 호출 측에서 동기화
+ */
+public final class TimelineBuilder {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final List<int[]> runs = new ArrayList<>();  // {count, dt, df, ds}
+    private TimelinePoint last = TimelinePoint.ORIGIN;
+    private int pointCount;
+
+    /**
+     * 점 추가 (직전과 같은 점은 무시)
+     */
+    public void append(TimelinePoint point) {
+        int dt = Math.max(0, point.offsetSeconds() - last.offsetSeconds());
+        int df = point.focusGauge() - last.focusGauge();
+        int ds = point.stamina() - last.stamina();
+        if (dt == 0 && df == 0 && ds == 0) {
+            return;
+        }
+
+        int[] tail = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+        if (tail != null && tail[1] == dt && tail[2] == df && tail[3] == ds) {
+            tail[0]++;
+        } else {
+            runs.add(new int[]{1, dt, df, ds});
+        }
+
+        last = new TimelinePoint(last.offsetSeconds() + dt, point.focusGauge(), point.stamina());
+        pointCount++;
+    }
+
+    public int pointCount() {
+        return pointCount;
+    }
+
+    /**
+     * 전체 점 복원
+     */
+    public List<TimelinePoint> points() {
+        List<TimelinePoint> points = new ArrayList<>(pointCount);
+        int t = TimelinePoint.ORIGIN.offsetSeconds();
+        int f = TimelinePoint.ORIGIN.focusGauge();
+        int s = TimelinePoint.ORIGIN.stamina();
+        for (int[] run : runs) {
+            for (int i = 0; i < run[0]; i++) {
+                t += run[1];
+                f += run[2];
+                s += run[3];
+                points.add(new TimelinePoint(t, f, s));
+            }
+        }
+        return points;
+    }
+
+    // === 직렬화 ===
+
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 + runs.size() * 4);
+        out.write(FORMAT_VERSION);
+        for (int[] run : runs) {
+            writeVarint(out, run[0]);
+            writeVarint(out, zigzag(run[1]));
+            writeVarint(out, zigzag(run[2]));
+            writeVarint(out, zigzag(run[3]));
+        }
+        return out.toByteArray();
+    }
+
+    public static TimelineBuilder decode(byte[] data) {
+        TimelineBuilder builder = new TimelineBuilder();
+        if (data == null || data.length == 0) {
+            return builder;
+        }
+        if (data[0] != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 타임라인 형식입니다: " + data[0]);
+        }
+
+        int[] pos = {1};
+        while (pos[0] < data.length) {
+            int count = readVarint(data, pos);
+            int dt = unzigzag(readVarint(data, pos));
+            int df = unzigzag(readVarint(data, pos));
+            int ds = unzigzag(readVarint(data, pos));
+            builder.runs.add(new int[]{count, dt, df, ds});
+            builder.pointCount += count;
+            builder.last = new TimelinePoint(
+                    builder.last.offsetSeconds() + dt * count,
+                    builder.last.focusGauge() + df * count,
+                    builder.last.stamina() + ds * count);
+        }
+        return builder;
+    }
+
+    // === Private Methods ===
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] data, int[] pos) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (pos[0] >= data.length) {
+                throw new IllegalStateException("손상된 타임라인 데이터입니다.");
+            }
+            byte b = data[pos[0]++];
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("손상된 타임라인 데이터입니다.");
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.starlogue.service.timeline;
+
+/**
+ * 세션 타임라인의 한 점
+ *
+ * @param offsetSeconds 세션 시작 후 경과 시간 (초)
+ * @param focusGauge    연속 집중 시간 (초)
+ * @param stamina       스태미나 (0~100)
+ */
+public record TimelinePoint(int offsetSeconds, int focusGauge, int stamina) {
+
+    /**
+     * 세션 시작 시점 (모든 델타의 기준점)
+     */
+    public static final TimelinePoint ORIGIN = new TimelinePoint(0, 0, 100);
+}
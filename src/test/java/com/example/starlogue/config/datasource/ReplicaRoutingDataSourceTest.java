@@ -0,0 +1,108 @@
+package com.example.starlogue.config.datasource;
+
+import com.example.starlogue.config.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+	private DataSource primary;
+	private DataSource replica;
+	private ReplicaLagMonitor lagMonitor;
+	private DataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		primary = mock(DataSource.class);
+		replica = mock(DataSource.class);
+		when(primary.getConnection()).thenReturn(mock(Connection.class));
+		when(replica.getConnection()).thenReturn(mock(Connection.class));
+
+		lagMonitor = mock(ReplicaLagMonitor.class);
+		when(lagMonitor.isHealthy()).thenReturn(true);
+
+		ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), 100);
+		dataSource = ReplicaDataSourceConfig.readWriteSplitting(primary, replica, lagMonitor, tracker);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyConnectionGoesToReplica() throws SQLException {
+		useReadOnlyConnection();
+
+		verify(replica).getConnection();
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimary() throws SQLException {
+		when(lagMonitor.isHealthy()).thenReturn(false);
+		useWriteConnection();  // 기본 커넥션 속성 확인용 첫 조회
+		clearInvocations(primary);
+
+		useReadOnlyConnection();
+
+		verify(primary).getConnection();
+		verify(replica, never()).getConnection();
+	}
+
+	@Test
+	void userReadsStickToPrimaryAfterWrite() throws SQLException {
+		authenticate(UUID.randomUUID());
+		useWriteConnection();
+		clearInvocations(primary);
+
+		useReadOnlyConnection();
+
+		verify(primary).getConnection();
+		verify(replica, never()).getConnection();
+	}
+
+	@Test
+	void otherUsersStillReadFromReplica() throws SQLException {
+		authenticate(UUID.randomUUID());
+		useWriteConnection();
+
+		authenticate(UUID.randomUUID());
+		useReadOnlyConnection();
+
+		verify(replica).getConnection();
+	}
+
+	private void useReadOnlyConnection() throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setReadOnly(true);
+			connection.createStatement();
+		}
+	}
+
+	private void useWriteConnection() throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			connection.createStatement();
+		}
+	}
+
+	private static void authenticate(UUID userId) {
+		CustomUserDetails userDetails = new CustomUserDetails(userId, "reader@starlogue.dev");
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+	}
+}
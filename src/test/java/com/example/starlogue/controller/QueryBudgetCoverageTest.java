@@ -0,0 +1,62 @@
+package com.example.starlogue.controller;
+
+import com.example.starlogue.support.query.QueryBudgets;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryBudgetCoverageTest {
+
+	@Test
+	void everyEndpointHasQueryBudget() {
+		Set<String> endpoints = declaredEndpoints();
+
+		assertThat(endpoints).isNotEmpty();
+		assertThat(QueryBudgets.all().keySet())
+				.as("%s에 예산이 없는 엔드포인트", QueryBudgets.RESOURCE)
+				.containsAll(endpoints);
+		assertThat(endpoints)
+				.as("%s에 남아 있는, 더 이상 없는 엔드포인트", QueryBudgets.RESOURCE)
+				.containsAll(QueryBudgets.all().keySet());
+	}
+
+	private static Set<String> declaredEndpoints() {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter(new AnnotationTypeFilter(Controller.class));
+
+		Set<String> endpoints = new TreeSet<>();
+		for (BeanDefinition definition : scanner.findCandidateComponents(QueryBudgetCoverageTest.class.getPackageName())) {
+			Class<?> controller = ClassUtils.resolveClassName(definition.getBeanClassName(), null);
+			RequestMapping base = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+			String[] prefixes = base != null && base.path().length > 0 ? base.path() : new String[]{""};
+
+			for (Method method : controller.getDeclaredMethods()) {
+				RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+				if (mapping == null) {
+					continue;
+				}
+				String[] paths = mapping.path().length > 0 ? mapping.path() : new String[]{""};
+				for (RequestMethod httpMethod : mapping.method()) {
+					for (String prefix : prefixes) {
+						for (String path : paths) {
+							endpoints.add(httpMethod.name() + " " + prefix + path);
+						}
+					}
+				}
+			}
+		}
+		return endpoints;
+	}
+}
@@ -0,0 +1,276 @@
+package com.example.starlogue.controller;
+
+import com.example.starlogue.service.DarkHistoryAiService;
+import com.example.starlogue.service.HighlightReportAiService;
+import com.example.starlogue.support.TestDatabase;
+import com.example.starlogue.support.query.QueryBudgets;
+import com.example.starlogue.support.query.QueryCountingDataSourceConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 사용 흐름으로 엔드포인트를 호출하며 요청별 SQL 수를 예산과 비교 (TestDatabase 없으면 건너뜀)
+ * - 세션을 여러 개 만든 뒤 목록을 조회해야 N+1이 반복 SELECT로 드러난다
+ * - 예산 파일의 모든 엔드포인트를 한 번씩 호출한다 (AI 호출은 목으로 대체)
+ * - 내보내기 스트리밍은 테스트 스레드에서 바로 실행해 같은 요청으로 센다
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import({QueryCountingDataSourceConfig.class, QueryBudgetIntegrationTest.InlineAsyncConfig.class})
+@EnabledIf("com.example.starlogue.support.TestDatabase#isAvailable")
+class QueryBudgetIntegrationTest {
+
+	private static final int SESSIONS = 3;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockitoBean
+	private DarkHistoryAiService darkHistoryAiService;
+
+	@MockitoBean
+	private HighlightReportAiService highlightReportAiService;
+
+	private final Set<String> called = new TreeSet<>();
+
+	private String accessToken;
+
+	@BeforeEach
+	void stubAi() {
+		given(darkHistoryAiService.generateDarkHistory(any())).willReturn("흑역사 본문");
+		given(highlightReportAiService.generateSummary(any())).willReturn("요약");
+		given(highlightReportAiService.generateStrategy(any())).willReturn("전략");
+		given(highlightReportAiService.generateCrisisNarrative(anyList())).willReturn("위기");
+	}
+
+	@Test
+	void endpointsStayWithinQueryBudget() throws Exception {
+		String today = LocalDate.now().toString();
+		LocalDate importedDay = LocalDate.now().minusDays(3);
+
+		// === 인증 (공유 DB라 매번 새 사용자) ===
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		String email = suffix + "@budget.test";
+		Map<String, Object> credentials = Map.of("email", email, "password", "password123");
+		call(HttpMethod.POST, "/api/auth/signup", body(Map.of(
+				"email", email, "password", "password123", "nickname", "b-" + suffix)));
+		accessToken = call(HttpMethod.POST, "/api/auth/login", body(credentials)).path("accessToken").asText();
+
+		// === 태그 ===
+		String tagId = call(HttpMethod.POST, "/api/tags", body(Map.of("name", "수학", "colorHex", "#FF6B6B")))
+				.path("id").asText();
+		call(HttpMethod.GET, "/api/tags");
+		call(HttpMethod.GET, "/api/tags/all");
+		call(HttpMethod.GET, "/api/tags/{tagId}", tagId);
+		call(HttpMethod.PATCH, "/api/tags/{tagId}", body(Map.of("name", "수학II", "colorHex", "#4ECDC4")), tagId);
+
+		// === 세션 (마지막 세션은 포기) ===
+		String lastSessionId = null;
+		for (int i = 0; i < SESSIONS; i++) {
+			String sessionId = call(HttpMethod.POST, "/api/sessions/start", body(Map.of("tagId", tagId)))
+					.path("id").asText();
+			call(HttpMethod.GET, "/api/sessions/current");
+
+			if (i == 0) {
+				call(HttpMethod.POST, "/api/sessions/{sessionId}/stop",
+						body(Map.of("reason", "REST", "expectedMinutes", 5)), sessionId);
+				call(HttpMethod.POST, "/api/sessions/{sessionId}/resume", sessionId);
+				call(HttpMethod.POST, "/api/sessions/{sessionId}/focus",
+						body(Map.of("additionalSeconds", 60)), sessionId);
+				LocalDateTime now = LocalDateTime.now();
+				call(HttpMethod.POST, "/api/sessions/{sessionId}/events:batch", body(Map.of("events", List.of(
+						Map.of("type", "STOP", "occurredAt", now.toString(), "reason", "BATHROOM", "expectedMinutes", 3),
+						Map.of("type", "RESUME", "occurredAt", now.toString())))), sessionId);
+			}
+
+			String end = i < SESSIONS - 1 ? "/api/sessions/{sessionId}/end" : "/api/sessions/{sessionId}/abandon";
+			call(HttpMethod.POST, end, sessionId);
+			lastSessionId = sessionId;
+		}
+		call(HttpMethod.GET, "/api/sessions/{sessionId}", lastSessionId);
+		call(HttpMethod.GET, "/api/sessions/{sessionId}/timeline", lastSessionId);
+		call(HttpMethod.GET, "/api/sessions/{sessionId}/stop-events", lastSessionId);
+		call(HttpMethod.GET, "/api/sessions/date/{date}", today);
+		call(HttpMethod.GET, "/api/sessions/history");
+		call(HttpMethod.GET, "/api/sessions/history/cursor");
+
+		// === 일일 기록 ===
+		call(HttpMethod.GET, "/api/daily/galaxy", params("startDate", LocalDate.now().minusDays(30), "endDate", today));
+		call(HttpMethod.GET, "/api/daily/galaxy/recent");
+		call(HttpMethod.GET, "/api/daily/today");
+		call(HttpMethod.GET, "/api/daily/{date}", today);
+		call(HttpMethod.GET, "/api/daily/{date}/detail", today);
+		call(HttpMethod.GET, "/api/daily/history");
+		call(HttpMethod.GET, "/api/daily/history/cursor");
+		call(HttpMethod.GET, "/api/daily/stats/monthly");
+		call(HttpMethod.GET, "/api/daily/stats/period", params("startDate", LocalDate.now().minusDays(7), "endDate", today));
+		call(HttpMethod.GET, "/api/daily/streaks");
+
+		// === 태그 통계 / 비활성화 ===
+		call(HttpMethod.GET, "/api/tags/popular");
+		call(HttpMethod.GET, "/api/tags/{tagId}/stats", tagId);
+		call(HttpMethod.DELETE, "/api/tags/{tagId}", tagId);
+		call(HttpMethod.POST, "/api/tags/{tagId}/activate", tagId);
+
+		// === 사용자 / 랭킹 ===
+		call(HttpMethod.GET, "/api/users/me");
+		call(HttpMethod.PATCH, "/api/users/me", body(Map.of("nickname", "c-" + suffix)));
+		call(HttpMethod.GET, "/api/users/me/stats");
+		call(HttpMethod.GET, "/api/users/me/ranking");
+		call(HttpMethod.GET, "/api/users/ranking/streak");
+		call(HttpMethod.GET, "/api/users/ranking/study-time");
+		call(HttpMethod.GET, "/api/users/ranking/today");
+		call(HttpMethod.GET, "/api/users/ranking/weekly");
+		call(HttpMethod.GET, "/api/users/ranking/monthly");
+
+		// === 내보내기 / 가져오기 (가져온 날 중 하루는 블랙홀 → 흑역사 생성) ===
+		call(HttpMethod.GET, "/api/users/me/export");
+		upload("/api/users/me/import", new MockMultipartFile("file", "history.ndjson",
+				MediaType.APPLICATION_NDJSON_VALUE, String.join("\n",
+						importedSession(importedDay.atTime(9, 0), importedDay.atTime(10, 0), true),
+						importedSession(importedDay.atTime(14, 0), importedDay.atTime(14, 30), true),
+						importedSession(importedDay.plusDays(1).atTime(20, 0), importedDay.plusDays(1).atTime(20, 20), false))
+						.getBytes(StandardCharsets.UTF_8)));
+
+		// === 리포트 (가져온 날은 리포트가 없어 새로 생성) / 정산 ===
+		call(HttpMethod.GET, "/api/daily/{date}/report", importedDay);
+		call(HttpMethod.POST, "/api/daily/{date}/finalize", today);
+
+		// === 흑역사 ===
+		String darkHistoryId = call(HttpMethod.GET, "/api/dark-histories").path(0).path("id").asText();
+		call(HttpMethod.GET, "/api/dark-histories/{darkHistoryId}", darkHistoryId);
+		call(HttpMethod.POST, "/api/dark-histories/{darkHistoryId}/regenerate", darkHistoryId);
+		call(HttpMethod.POST, "/api/dark-histories/{darkHistoryId}/toggle-public", darkHistoryId);
+		call(HttpMethod.GET, "/api/dark-histories/paged");
+		call(HttpMethod.GET, "/api/dark-histories/paged/cursor");
+		call(HttpMethod.GET, "/api/dark-histories/unacknowledged");
+		call(HttpMethod.GET, "/api/dark-histories/public");
+		call(HttpMethod.GET, "/api/dark-histories/public/feed");
+		call(HttpMethod.GET, "/api/dark-histories/stats");
+
+		assertThat(called)
+				.as("호출하지 않은 엔드포인트가 있습니다")
+				.containsExactlyInAnyOrderElementsOf(QueryBudgets.all().keySet());
+	}
+
+	// === Private Methods ===
+
+	private JsonNode call(HttpMethod method, String uriTemplate, Object... uriVariables) throws Exception {
+		return call(method, uriTemplate, builder -> builder, uriVariables);
+	}
+
+	private JsonNode call(HttpMethod method, String uriTemplate, RequestCustomizer customizer,
+						  Object... uriVariables) throws Exception {
+		return perform(method.name() + " " + uriTemplate,
+				customizer.customize(request(method, uriTemplate, uriVariables)));
+	}
+
+	private JsonNode upload(String uriTemplate, MockMultipartFile file) throws Exception {
+		return perform(HttpMethod.POST.name() + " " + uriTemplate, multipart(uriTemplate).file(file));
+	}
+
+	private JsonNode perform(String endpoint, MockHttpServletRequestBuilder builder) throws Exception {
+		if (accessToken != null) {
+			builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+		}
+		called.add(endpoint);
+
+		MvcResult result = QueryBudgets.assertWithinBudget(endpoint, () -> {
+			MvcResult started = mockMvc.perform(builder).andReturn();
+			if (started.getRequest().isAsyncStarted()) {
+				started = mockMvc.perform(asyncDispatch(started)).andReturn();
+			}
+			return started;
+		});
+		assertThat(result.getResponse().getStatus()).as(endpoint).isEqualTo(200);
+
+		String contentType = result.getResponse().getContentType();
+		if (contentType == null || !contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)) {
+			return objectMapper.missingNode();  // 내보내기 파일
+		}
+		return objectMapper.readTree(result.getResponse().getContentAsByteArray()).path("data");
+	}
+
+	private RequestCustomizer body(Object content) throws Exception {
+		String json = objectMapper.writeValueAsString(content);
+		return builder -> builder.contentType(MediaType.APPLICATION_JSON).content(json);
+	}
+
+	private static RequestCustomizer params(String name1, Object value1, String name2, Object value2) {
+		return builder -> builder.param(name1, value1.toString()).param(name2, value2.toString());
+	}
+
+	private static String importedSession(LocalDateTime startedAt, LocalDateTime endedAt, boolean success) {
+		return "{\"startedAt\":\"" + startedAt + "\",\"endedAt\":\"" + endedAt + "\",\"success\":" + success + "}";
+	}
+
+	@FunctionalInterface
+	private interface RequestCustomizer {
+		MockHttpServletRequestBuilder customize(MockHttpServletRequestBuilder builder);
+	}
+
+	/**
+	 * StreamingResponseBody를 요청 스레드에서 실행 (QueryCounter는 스레드 단위)
+	 */
+	@TestConfiguration(proxyBeanMethods = false)
+	static class InlineAsyncConfig {
+
+		@Bean
+		WebMvcConfigurer inlineAsyncConfigurer() {
+			return new WebMvcConfigurer() {
+				@Override
+				public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+					configurer.setTaskExecutor(new TaskExecutorAdapter(Runnable::run));
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.starlogue.domain;
+
+import com.example.starlogue.domain.enums.StopReason;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FocusIntervalTest {
+
+	private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = User.builder().email("focus@test.com").nickname("focus").build();
+		ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+	}
+
+	@Test
+	void sessionIsSplitAtStopsAndEndsAtUnresumedStop() {
+		StudySession session = session(at(14, 0));
+		StopEvent first = session.stop(StopReason.BATHROOM, 5, at(14, 20));
+		session.resume(first, at(14, 25));
+		session.stop(StopReason.REST, 10, at(14, 50));  // 재개 없이 종료
+		end(session, at(15, 30));
+
+		assertThat(FocusInterval.of(session)).containsExactly(
+				new FocusInterval(at(14, 0), at(14, 20)),
+				new FocusInterval(at(14, 25), at(14, 50)));
+	}
+
+	@Test
+	void stopAtSessionStartProducesNoEmptyInterval() {
+		StudySession session = session(at(9, 0));
+		StopEvent stop = session.stop(StopReason.INTERRUPTION, 5, at(9, 0));
+		session.resume(stop, at(9, 10));
+		end(session, at(9, 40));
+
+		assertThat(FocusInterval.of(session)).containsExactly(new FocusInterval(at(9, 10), at(9, 40)));
+	}
+
+	@Test
+	void mvpIsLongestUninterruptedIntervalOfTheDay() {
+		DailyRecord record = DailyRecord.builder().user(user).recordDate(DAY).build();
+
+		StudySession morning = session(at(9, 0));
+		StopEvent stop = morning.stop(StopReason.REST, 10, at(9, 30));
+		morning.resume(stop, at(9, 40));
+		end(morning, at(10, 20));  // 40분
+		record.addSessionResult(morning);
+
+		StudySession afternoon = session(at(14, 0));
+		end(afternoon, at(14, 30));  // 30분
+		record.addSessionResult(afternoon);
+
+		assertThat(record.getMvpTimeRange()).isEqualTo("09:40~10:20");
+		assertThat(record.getMvpMinutes()).isEqualTo(40);
+	}
+
+	@Test
+	void backToBackSessionsMergeIntoOneMvpInterval() {
+		DailyRecord record = DailyRecord.builder().user(user).recordDate(DAY).build();
+
+		StudySession first = session(at(20, 0));
+		end(first, at(20, 30));
+		record.addSessionResult(first);
+
+		StudySession second = session(at(20, 30));  // 끝나자마자 다시 시작
+		end(second, at(21, 0));
+		record.addSessionResult(second);
+
+		assertThat(record.getMvpTimeRange()).isEqualTo("20:00~21:00");
+		assertThat(record.getMvpMinutes()).isEqualTo(60);
+	}
+
+	// === Private Methods ===
+
+	private StudySession session(LocalDateTime startedAt) {
+		StudySession session = StudySession.builder().user(user).pledge(Pledge.empty()).build();
+		ReflectionTestUtils.setField(session, "id", UUID.randomUUID());
+		ReflectionTestUtils.setField(session, "startedAt", startedAt);
+		return session;
+	}
+
+	private static void end(StudySession session, LocalDateTime endedAt) {
+		ReflectionTestUtils.setField(session, "endedAt", endedAt);
+	}
+
+	private static LocalDateTime at(int hour, int minute) {
+		return DAY.atTime(hour, minute);
+	}
+}
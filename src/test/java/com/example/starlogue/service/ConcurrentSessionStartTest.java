@@ -0,0 +1,102 @@
+package com.example.starlogue.service;
+
+import com.example.starlogue.domain.StudySession;
+import com.example.starlogue.domain.User;
+import com.example.starlogue.domain.enums.AuthProvider;
+import com.example.starlogue.repository.UserRepository;
+import com.example.starlogue.support.TestDatabase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * 한 사용자의 동시 시작 요청 (더블 클릭 / 여러 기기)
+ * - 부분 유니크 인덱스로 활성 세션은 하나, 나머지 요청은 그 세션을 돌려받는다
+ */
+@SpringBootTest
+@EnabledIf("com.example.starlogue.support.TestDatabase#isAvailable")
+class ConcurrentSessionStartTest {
+
+	private static final int PARALLEL_STARTS = 32;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private StudyFacadeService facadeService;
+
+	@Autowired
+	private StudySessionService sessionService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void parallelStartsShareOneActiveSession() throws Exception {
+		UUID userId = userRepository.save(User.builder()
+				.email(UUID.randomUUID().toString().substring(0, 8) + "@start.test")
+				.nickname("start")
+				.authProvider(AuthProvider.LOCAL)
+				.build()).getId();
+
+		CountDownLatch go = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_STARTS);
+		List<Future<UUID>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < PARALLEL_STARTS; i++) {
+				results.add(executor.submit(() -> {
+					go.await();
+					return facadeService.startStudy(userId, null, null, null).getId();
+				}));
+			}
+			go.countDown();
+
+			Set<UUID> sessionIds = results.stream()
+					.map(ConcurrentSessionStartTest::await)
+					.collect(Collectors.toSet());
+
+			assertThat(sessionIds).hasSize(1);
+			assertThat(jdbcTemplate.queryForObject(
+					"SELECT COUNT(*) FROM study_sessions WHERE user_id = ? AND status IN ('IN_PROGRESS', 'PAUSED')",
+					Integer.class, userId)).isEqualTo(1);
+
+			// 활성 세션이 둘이면 사용자 기준 조회가 IncorrectResultSizeDataAccessException으로 깨진다
+			UUID sessionId = sessionIds.iterator().next();
+			assertThatCode(() -> facadeService.heartbeat(sessionId, 5)).doesNotThrowAnyException();
+			assertThat(sessionService.getCurrentSession(userId)).map(StudySession::getId).contains(sessionId);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static UUID await(Future<UUID> future) {
+		try {
+			return future.get(30, TimeUnit.SECONDS);
+		} catch (Exception e) {
+			throw new AssertionError("시작 요청 실패", e);
+		}
+	}
+}
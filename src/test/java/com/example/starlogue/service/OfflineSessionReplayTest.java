@@ -0,0 +1,124 @@
+package com.example.starlogue.service;
+
+import com.example.starlogue.domain.User;
+import com.example.starlogue.domain.enums.AuthProvider;
+import com.example.starlogue.domain.enums.SessionEventType;
+import com.example.starlogue.domain.enums.SessionStatus;
+import com.example.starlogue.domain.enums.StopReason;
+import com.example.starlogue.repository.UserRepository;
+import com.example.starlogue.service.StudySessionService.OfflineEvent;
+import com.example.starlogue.support.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 오프라인 모드 세션: 유예 시간이 지나도 탈주 처리되지 않고 몇 시간치 이벤트를 나중에 반영
+ * - 유예 시간 1초로 실제 타이머를 돌린다
+ */
+@SpringBootTest(properties = "starlogue.session.grace-period-seconds=1")
+@EnabledIf("com.example.starlogue.support.TestDatabase#isAvailable")
+class OfflineSessionReplayTest {
+
+	private static final long GRACE_WAIT_MS = 2500;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private StudyFacadeService facadeService;
+
+	@Autowired
+	private SessionConnectionService connectionService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UUID userId;
+	private UUID sessionId;
+	private LocalDateTime wentOffline;
+
+	@BeforeEach
+	void setUp() {
+		userId = userRepository.save(User.builder()
+				.email(UUID.randomUUID().toString().substring(0, 8) + "@offline.test")
+				.nickname("offline")
+				.authProvider(AuthProvider.LOCAL)
+				.build()).getId();
+		sessionId = facadeService.startStudy(userId, null, null, null).getId();
+
+		// 3시간 전 시작해 곧바로 끊긴 세션
+		wentOffline = LocalDateTime.now().minusHours(3);
+		jdbcTemplate.update("UPDATE study_sessions SET started_at = ?, updated_at = ? WHERE id = ?",
+				Timestamp.valueOf(wentOffline), Timestamp.valueOf(wentOffline), sessionId);
+	}
+
+	@Test
+	void offlineSessionOutlivesGracePeriodAndAcceptsReplay() throws Exception {
+		connectionService.declareOfflineMode(userId, sessionId, true);
+		connectionService.handleDisconnect(userId, "ws-1");
+
+		Thread.sleep(GRACE_WAIT_MS);
+		assertThat(status()).isEqualTo(SessionStatus.IN_PROGRESS.name());
+
+		StudyFacadeService.EventBatchResult result = facadeService.applyEventBatch(userId, sessionId, List.of(
+				focus(wentOffline.plusHours(1), 3000),
+				new OfflineEvent(SessionEventType.STOP, wentOffline.plusHours(1).plusSeconds(1), null, StopReason.REST, 10),
+				new OfflineEvent(SessionEventType.RESUME, wentOffline.plusHours(1).plusMinutes(10), null, null, null),
+				focus(wentOffline.plusHours(2), 3000)));
+
+		assertThat(result.appliedCount()).isEqualTo(4);
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT total_study_seconds FROM study_sessions WHERE id = ?", Integer.class, sessionId))
+				.isEqualTo(6000);
+
+		// 반영 뒤에도 재연결하지 않으면 기본 유예 시간으로 돌아가 탈주 처리
+		awaitStatus(SessionStatus.DESERTED);
+	}
+
+	@Test
+	void sessionWithoutOfflineModeIsDesertedAndRejectsReplay() throws Exception {
+		connectionService.handleDisconnect(userId, "ws-1");
+
+		awaitStatus(SessionStatus.DESERTED);
+		assertThatThrownBy(() -> facadeService.applyEventBatch(userId, sessionId,
+				List.of(focus(wentOffline.plusHours(1), 3000))))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	// === Private Methods ===
+
+	private static OfflineEvent focus(LocalDateTime at, int seconds) {
+		return new OfflineEvent(SessionEventType.FOCUS, at, seconds, null, null);
+	}
+
+	private String status() {
+		return jdbcTemplate.queryForObject("SELECT status FROM study_sessions WHERE id = ?", String.class, sessionId);
+	}
+
+	private void awaitStatus(SessionStatus expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + GRACE_WAIT_MS * 2;
+		while (!expected.name().equals(status()) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+		}
+		assertThat(status()).isEqualTo(expected.name());
+	}
+}
@@ -0,0 +1,79 @@
+package com.example.starlogue.service;
+
+import com.example.starlogue.domain.DarkHistory;
+import com.example.starlogue.repository.DarkHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static com.example.starlogue.dto.DarkHistoryDto.PublicDarkHistoryResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PublicDarkHistoryFeedServiceTest {
+
+	private static final int SNAPSHOT_SIZE = 4;
+
+	private DarkHistoryRepository repository;
+	private PublicDarkHistoryFeedService feedService;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(DarkHistoryRepository.class);
+		feedService = new PublicDarkHistoryFeedService(repository);
+		ReflectionTestUtils.setField(feedService, "snapshotSize", SNAPSHOT_SIZE);
+	}
+
+	@Test
+	void truncatedSnapshotPageReportsEveryPublicRow() {
+		List<DarkHistory> top = darkHistories(SNAPSHOT_SIZE);
+		given(repository.findPublicFeedTop(SNAPSHOT_SIZE)).willReturn(top);
+		given(repository.countByIsPublicTrue()).willReturn(25L);
+		feedService.refresh();
+
+		Page<PublicDarkHistoryResponse> page = feedService.getPage(PageRequest.of(0, 2));
+
+		assertThat(page.getContent()).hasSize(2);
+		assertThat(page.getTotalElements()).isEqualTo(25);
+		assertThat(page.getTotalPages()).isEqualTo(13);
+		verify(repository, never()).findPublicDarkHistories(any());
+	}
+
+	@Test
+	void completeSnapshotPageUsesSnapshotSizeWithoutCounting() {
+		List<DarkHistory> all = darkHistories(3);
+		given(repository.findPublicFeedTop(SNAPSHOT_SIZE)).willReturn(all);
+		feedService.refresh();
+
+		Page<PublicDarkHistoryResponse> page = feedService.getPage(PageRequest.of(0, 2));
+
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		verify(repository, never()).countByIsPublicTrue();
+	}
+
+	// === Private Methods ===
+
+	private static List<DarkHistory> darkHistories(int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> {
+					DarkHistory dh = mock(DarkHistory.class, RETURNS_DEEP_STUBS);
+					given(dh.getId()).willReturn(UUID.randomUUID());
+					given(dh.getViewCount()).willReturn(100 - i);
+					given(dh.getDailyRecord().getRecordDate()).willReturn(LocalDate.of(2026, 3, 1));
+					return dh;
+				})
+				.toList();
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.starlogue.service;
+
+import com.example.starlogue.domain.User;
+import com.example.starlogue.domain.enums.AuthProvider;
+import com.example.starlogue.repository.UserRepository;
+import com.example.starlogue.support.TestDatabase;
+import com.example.starlogue.support.query.QueryBudgets;
+import com.example.starlogue.support.query.QueryCountingDataSourceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.UUID;
+
+/**
+ * 세션 시작 빠른 경로의 SQL 수
+ * - 일일 기록 UPSERT + 세션 INSERT (태그 지정 시 태그 SELECT 1회 추가)
+ * - 사용자 / 활성 세션 사전 조회, 저장 후 재조회가 다시 생기면 실패
+ * - 지연 시간(p99) 비교는 loadtest/session-start.js
+ */
+@SpringBootTest
+@Import(QueryCountingDataSourceConfig.class)
+@EnabledIf("com.example.starlogue.support.TestDatabase#isAvailable")
+class SessionStartStatementTest {
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private StudyFacadeService facadeService;
+
+	@Autowired
+	private TagService tagService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = userRepository.save(User.builder()
+				.email(UUID.randomUUID().toString().substring(0, 8) + "@fast-start.test")
+				.nickname("fast-start")
+				.authProvider(AuthProvider.LOCAL)
+				.build()).getId();
+	}
+
+	@Test
+	void startWithoutTagTakesTwoStatements() {
+		QueryBudgets.assertMaxStatements("startStudy (태그 없음)", 2,
+				() -> facadeService.startStudy(userId, null, null, null));
+	}
+
+	@Test
+	void startWithTagAddsOneTagSelect() {
+		UUID tagId = tagService.createTag(userId, "수학", "#FF6B6B", null).getId();
+
+		QueryBudgets.assertMaxStatements("startStudy (태그)", 3,
+				() -> facadeService.startStudy(userId, tagId, "다짐", 30));
+	}
+}
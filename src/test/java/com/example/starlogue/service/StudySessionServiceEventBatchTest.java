@@ -0,0 +1,87 @@
+package com.example.starlogue.service;
+
+import com.example.starlogue.domain.Pledge;
+import com.example.starlogue.domain.StudySession;
+import com.example.starlogue.domain.User;
+import com.example.starlogue.domain.enums.SessionEventType;
+import com.example.starlogue.domain.enums.SessionStatus;
+import com.example.starlogue.repository.StopEventRepository;
+import com.example.starlogue.repository.StudySessionRepository;
+import com.example.starlogue.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.example.starlogue.service.StudySessionService.OfflineEvent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudySessionServiceEventBatchTest {
+
+	private static final long CLOCK_SKEW_SECONDS = 30;
+
+	private final StudySessionRepository sessionRepository = mock(StudySessionRepository.class);
+	private final UUID userId = UUID.randomUUID();
+
+	private StudySessionService service;
+	private StudySession session;
+	private LocalDateTime lastApplied;
+
+	@BeforeEach
+	void setUp() {
+		service = new StudySessionService(sessionRepository, mock(StopEventRepository.class),
+				mock(UserRepository.class), mock(TagService.class));
+		ReflectionTestUtils.setField(service, "maxBatchEvents", 5000);
+		ReflectionTestUtils.setField(service, "clockSkewSeconds", CLOCK_SKEW_SECONDS);
+
+		User user = User.builder().email("batch@test.com").nickname("batch").build();
+		ReflectionTestUtils.setField(user, "id", userId);
+		session = StudySession.builder().user(user).pledge(Pledge.empty()).build();
+		ReflectionTestUtils.setField(session, "id", UUID.randomUUID());
+		lastApplied = LocalDateTime.now().minusSeconds(10);
+		ReflectionTestUtils.setField(session, "updatedAt", lastApplied);
+		when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+	}
+
+	@Test
+	void focusWithinElapsedTimeIsApplied() {
+		LocalDateTime at = lastApplied.plusSeconds(5);
+
+		int applied = service.applyEventBatch(userId, session.getId(), List.of(focus(at, 15), focus(at, 15)));
+
+		assertThat(applied).isEqualTo(2);
+		assertThat(session.getTotalStudySeconds()).isEqualTo(30);
+	}
+
+	@Test
+	void sameTimestampFocusEventsShareOneSkewAllowance() {
+		// 경과 5초 + 오차 30초 = 35초까지만 인정 (이벤트마다 오차를 더하면 150초가 통과)
+		LocalDateTime at = lastApplied.plusSeconds(5);
+		List<OfflineEvent> events = Collections.nCopies(5, focus(at, 30));
+
+		assertThatThrownBy(() -> service.applyEventBatch(userId, session.getId(), events))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void desertedSessionRejectsBatch() {
+		session.markAsDeserted();
+
+		assertThatThrownBy(() -> service.applyEventBatch(userId, session.getId(), List.of(focus(lastApplied, 1))))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("탈주");
+		assertThat(session.getStatus()).isEqualTo(SessionStatus.DESERTED);
+	}
+
+	private static OfflineEvent focus(LocalDateTime at, int seconds) {
+		return new OfflineEvent(SessionEventType.FOCUS, at, seconds, null, null);
+	}
+}
@@ -0,0 +1,87 @@
+package com.example.starlogue.service.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceTest {
+
+	private final IdempotencyService idempotency = new IdempotencyService(600, 1000, 200, new SimpleMeterRegistry());
+	private final UUID userId = UUID.randomUUID();
+
+	@Test
+	void sameKeyAndBodyReplaysFirstResult() {
+		AtomicInteger calls = new AtomicInteger();
+
+		String first = idempotency.execute(userId, "op", "key", "body", () -> "result-" + calls.incrementAndGet());
+		String second = idempotency.execute(userId, "op", "key", "body", () -> "result-" + calls.incrementAndGet());
+
+		assertThat(first).isEqualTo("result-1");
+		assertThat(second).isEqualTo("result-1");
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void sameKeyWithDifferentBodyIsRejected() {
+		idempotency.execute(userId, "op", "key", "body-a", () -> "a");
+
+		assertThatThrownBy(() -> idempotency.execute(userId, "op", "key", "body-b", () -> "b"))
+				.isInstanceOf(IdempotencyKeyReusedException.class);
+	}
+
+	@Test
+	void waiterIsReleasedWhenFirstRequestThrowsError() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<Object> first = CompletableFuture.supplyAsync(() ->
+				idempotency.execute(userId, "op", "key", null, () -> {
+					started.countDown();
+					await(release);
+					throw new AssertionError("boom");
+				}));
+		started.await();
+
+		CompletableFuture<Object> waiter = CompletableFuture.supplyAsync(() ->
+				idempotency.execute(userId, "op", "key", null, () -> "never"));
+		Thread.sleep(50);
+		release.countDown();
+
+		assertThatThrownBy(() -> waiter.get(1, TimeUnit.SECONDS)).hasRootCauseInstanceOf(AssertionError.class);
+		assertThatThrownBy(() -> first.get(1, TimeUnit.SECONDS)).hasRootCauseInstanceOf(AssertionError.class);
+		// 실패한 키는 비워져 재시도 가능
+		assertThat(idempotency.execute(userId, "op", "key", null, () -> "retry")).isEqualTo("retry");
+	}
+
+	@Test
+	void waiterGivesUpAfterTimeout() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture.runAsync(() -> idempotency.execute(userId, "op", "slow", null, () -> {
+			started.countDown();
+			await(release);
+			return "done";
+		}));
+		started.await();
+
+		assertThatThrownBy(() -> idempotency.execute(userId, "op", "slow", null, () -> "never"))
+				.isInstanceOf(IllegalStateException.class);
+		release.countDown();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
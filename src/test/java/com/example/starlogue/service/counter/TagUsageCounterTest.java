@@ -0,0 +1,56 @@
+package com.example.starlogue.service.counter;
+
+import com.example.starlogue.config.cache.CacheInvalidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TagUsageCounterTest {
+
+	private final TagUsageCounter counter = new TagUsageCounter(mock(JdbcTemplate.class), mock(CacheInvalidator.class));
+	private final UUID tagId = UUID.randomUUID();
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void incrementOutsideTransactionCountsImmediately() {
+		counter.increment(tagId);
+
+		assertThat(counter.pending(tagId)).isEqualTo(1);
+	}
+
+	@Test
+	void incrementInsideTransactionCountsOnlyAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		counter.increment(tagId);
+		assertThat(counter.pending(tagId)).isZero();
+
+		TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+		assertThat(counter.pending(tagId)).isEqualTo(1);
+	}
+
+	@Test
+	void rolledBackTransactionDoesNotCount() {
+		TransactionSynchronizationManager.initSynchronization();
+		counter.increment(tagId);
+
+		TransactionSynchronizationUtils.invokeAfterCompletion(
+				TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertThat(counter.pending(tagId)).isZero();
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.starlogue.service.metrics;
+
+import com.example.starlogue.domain.User;
+import com.example.starlogue.domain.enums.AuthProvider;
+import com.example.starlogue.domain.enums.StopReason;
+import com.example.starlogue.repository.UserRepository;
+import com.example.starlogue.service.StudySessionService;
+import com.example.starlogue.support.TestDatabase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@EnabledIf("com.example.starlogue.support.TestDatabase#isAvailable")
+class SessionMetricsTest {
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private SessionMetrics sessionMetrics;
+
+	@Autowired
+	private StudySessionService studySessionService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void pausedSessionMovesFromActiveToPausedGauge() {
+		// 공유 DB라 다른 테스트가 남긴 세션이 있을 수 있다 → 증가분으로 비교
+		sessionMetrics.refreshSessionCounts();
+		double activeBefore = gauge("starlogue.session.active");
+		double pausedBefore = gauge("starlogue.session.paused");
+
+		studySessionService.startSimpleSession(newUser(), null);
+		UUID pausedSessionId = studySessionService.startSimpleSession(newUser(), null).getId();
+		studySessionService.stopSession(pausedSessionId, StopReason.REST, 5);
+
+		sessionMetrics.refreshSessionCounts();
+
+		assertThat(gauge("starlogue.session.active") - activeBefore).isEqualTo(1);
+		assertThat(gauge("starlogue.session.paused") - pausedBefore).isEqualTo(1);
+	}
+
+	// === Private Methods ===
+
+	private UUID newUser() {
+		return userRepository.save(User.builder()
+				.email(UUID.randomUUID().toString().substring(0, 8) + "@metrics.test")
+				.nickname("metrics")
+				.authProvider(AuthProvider.LOCAL)
+				.build()).getId();
+	}
+
+	private double gauge(String name) {
+		return meterRegistry.get(name).gauge().value();
+	}
+}
@@ -0,0 +1,135 @@
+package com.example.starlogue.service.migration;
+
+import com.example.starlogue.domain.User;
+import com.example.starlogue.domain.enums.AuthProvider;
+import com.example.starlogue.repository.UserRepository;
+import com.example.starlogue.support.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@EnabledIf("com.example.starlogue.support.TestDatabase#isAvailable")
+class HistoryImportServiceTest {
+
+	private static final LocalDate DAY = LocalDate.now().minusDays(10);
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private HistoryImportService importService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = userRepository.save(User.builder()
+				.email(UUID.randomUUID().toString().substring(0, 8) + "@import.test")
+				.nickname("import")
+				.authProvider(AuthProvider.LOCAL)
+				.build()).getId();
+	}
+
+	@Test
+	void invalidRowRejectsWholeFileWithLineNumber() {
+		String file = ndjson(
+				session(DAY.atTime(9, 0) + "", DAY.atTime(10, 0) + "", ""),
+				session(DAY.atTime(11, 0) + "", DAY.atTime(10, 30) + "", ""));  // 종료가 시작보다 빠름
+
+		assertThatThrownBy(() -> importService.importHistory(userId, stream(file)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageStartingWith("2번째 줄");
+		assertThat(count("SELECT COUNT(*) FROM study_sessions WHERE user_id = ?")).isZero();
+		assertThat(count("SELECT COUNT(*) FROM daily_records WHERE user_id = ?")).isZero();
+	}
+
+	@Test
+	void multiSessionDayIsRolledUpAndBlackHoleDayGetsDarkHistory() throws Exception {
+		LocalDate blackHoleDay = DAY.plusDays(1);
+		String file = ndjson(
+				// 같은 날 세션 2개: 60분 성공 + 중단 후 재개한 30분 실패
+				session(DAY.atTime(9, 0) + "", DAY.atTime(10, 0) + "", ""),
+				session(DAY.atTime(14, 0) + "", DAY.atTime(14, 40) + "", ",\"success\":false,\"stops\":[" +
+						"{\"reason\":\"REST\",\"stoppedAt\":\"" + DAY.atTime(14, 10) + "\",\"resumedAt\":\""
+						+ DAY.atTime(14, 20) + "\",\"expectedMinutes\":5}]"),
+				// 다음 날 실패 세션만 → 블랙홀
+				session(blackHoleDay.atTime(20, 0) + "", blackHoleDay.atTime(20, 25) + "", ",\"success\":false"));
+
+		HistoryImportService.ImportResult result = importService.importHistory(userId, stream(file));
+
+		assertThat(result.sessionCount()).isEqualTo(3);
+		assertThat(result.stopEventCount()).isEqualTo(1);
+		assertThat(result.dayCount()).isEqualTo(2);
+
+		Map<String, Object> day = jdbcTemplate.queryForMap(
+				"SELECT record_type, session_count, success_session_count, failed_session_count, " +
+						"total_study_minutes, max_focus_minutes, streak_day FROM daily_records " +
+						"WHERE user_id = ? AND record_date = ?", userId, DAY);
+		assertThat(day).containsEntry("record_type", "STAR")
+				.containsEntry("session_count", 2)
+				.containsEntry("success_session_count", 1)
+				.containsEntry("failed_session_count", 1)
+				.containsEntry("total_study_minutes", 90)   // 60 + (40 - 10)
+				.containsEntry("max_focus_minutes", 60)
+				.containsEntry("streak_day", 1);
+
+		Map<String, Object> blackHole = jdbcTemplate.queryForMap(
+				"SELECT dr.record_type, dh.failed_minutes, dh.is_acknowledged FROM daily_records dr " +
+						"JOIN dark_histories dh ON dh.daily_record_id = dr.id " +
+						"WHERE dr.user_id = ? AND dr.record_date = ?", userId, blackHoleDay);
+		assertThat(blackHole).containsEntry("record_type", "BLACK_HOLE")
+				.containsEntry("failed_minutes", 25)
+				.containsEntry("is_acknowledged", true);
+
+		Map<String, Object> user = jdbcTemplate.queryForMap(
+				"SELECT total_study_minutes, total_stars, total_black_holes, longest_streak FROM users WHERE id = ?",
+				userId);
+		assertThat(user).containsEntry("total_study_minutes", 115)
+				.containsEntry("total_stars", 1)
+				.containsEntry("total_black_holes", 1)
+				.containsEntry("longest_streak", 1);
+	}
+
+	// === Private Methods ===
+
+	private int count(String sql) {
+		Integer count = jdbcTemplate.queryForObject(sql, Integer.class, userId);
+		return count != null ? count : 0;
+	}
+
+	private static String session(String startedAt, String endedAt, String extra) {
+		return "{\"startedAt\":\"" + startedAt + "\",\"endedAt\":\"" + endedAt + "\"" + extra + "}";
+	}
+
+	private static String ndjson(String... lines) {
+		return String.join("\n", lines);
+	}
+
+	private static InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.starlogue.service.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreRankingTest {
+
+	@Test
+	void topAndRankMatchSortedOrder() {
+		ScoreRanking ranking = new ScoreRanking();
+		Map<UUID, Long> scores = new HashMap<>();
+		List<UUID> ids = new ArrayList<>();
+		Random random = new Random(42);
+
+		for (int i = 0; i < 500; i++) {
+			ids.add(UUID.randomUUID());
+		}
+		for (int i = 0; i < 5000; i++) {
+			UUID id = ids.get(random.nextInt(ids.size()));
+			long score = random.nextInt(50);
+			ranking.put(id, score);
+			scores.put(id, score);
+		}
+
+		List<Map.Entry<UUID, Long>> expected = scores.entrySet().stream()
+				.sorted(Map.Entry.<UUID, Long>comparingByValue().reversed()
+						.thenComparing(Map.Entry.comparingByKey()))
+				.toList();
+
+		assertThat(ranking.size()).isEqualTo(scores.size());
+		assertThat(ranking.top(20))
+				.extracting(ScoreRanking.Entry::userId)
+				.containsExactlyElementsOf(expected.subList(0, 20).stream().map(Map.Entry::getKey).toList());
+
+		for (UUID id : scores.keySet()) {
+			long score = scores.get(id);
+			long above = scores.values().stream().filter(s -> s > score).count();
+			assertThat(ranking.rankOf(id).rank()).isEqualTo(above + 1);
+		}
+	}
+
+	@Test
+	void unknownUserIsRankedAsZero() {
+		ScoreRanking ranking = new ScoreRanking();
+		ranking.put(UUID.randomUUID(), 10);
+		ranking.put(UUID.randomUUID(), 0);
+
+		ScoreRanking.Rank rank = ranking.rankOf(UUID.randomUUID());
+
+		assertThat(rank.rank()).isEqualTo(2);
+		assertThat(rank.total()).isEqualTo(3);
+	}
+
+	@Test
+	void removeKeepsRanksConsistent() {
+		ScoreRanking ranking = new ScoreRanking();
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			UUID id = UUID.randomUUID();
+			ids.add(id);
+			ranking.put(id, i);
+		}
+		ids.subList(0, 50).forEach(ranking::remove);
+
+		assertThat(ranking.size()).isEqualTo(50);
+		assertThat(ranking.rankOf(ids.get(99)).rank()).isEqualTo(1);
+		assertThat(ranking.rankOf(ids.get(50)).rank()).isEqualTo(50);
+		assertThat(ranking.top(3)).extracting(ScoreRanking.Entry::score).containsExactly(99L, 98L, 97L);
+	}
+}
@@ -0,0 +1,138 @@
+package com.example.starlogue.service.ranking;
+
+import com.example.starlogue.domain.event.StudySessionRecordedEvent;
+import com.example.starlogue.repository.StudySessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class WindowedLeaderboardServiceTest {
+
+	private static final ZoneId ZONE = ZoneOffset.UTC;
+
+	private MutableClock clock;
+	private WindowedLeaderboardService leaderboard;
+	private LocalDate today;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(LocalDateTime.of(2026, 3, 10, 23, 59, 50).atZone(ZONE).toInstant());
+		leaderboard = new WindowedLeaderboardService(mock(StudySessionRepository.class), clock);
+		today = LocalDate.now(clock);
+	}
+
+	@Test
+	void dayLeavingWeekIsSubtractedAtMidnight() {
+		UUID sixDaysAgo = UUID.randomUUID();
+		UUID yesterday = UUID.randomUUID();
+		record(sixDaysAgo, today.minusDays(6), 3600);
+		record(yesterday, today.minusDays(1), 600);
+
+		assertThat(scoreIn(LeaderboardWindow.WEEKLY, sixDaysAgo)).isEqualTo(3600);
+
+		clock.advance(Duration.ofSeconds(20));  // 자정 넘김
+
+		assertThat(scoreIn(LeaderboardWindow.WEEKLY, sixDaysAgo)).isZero();
+		assertThat(scoreIn(LeaderboardWindow.WEEKLY, yesterday)).isEqualTo(600);
+		assertThat(scoreIn(LeaderboardWindow.MONTHLY, sixDaysAgo)).isEqualTo(3600);
+	}
+
+	@Test
+	void dayLeavingMonthIsSubtractedAndSlotIsReused() {
+		UUID oldest = UUID.randomUUID();
+		record(oldest, today.minusDays(29), 1200);
+
+		clock.advance(Duration.ofDays(1));
+		LocalDate nextDay = LocalDate.now(clock);
+		UUID fresh = UUID.randomUUID();
+		record(fresh, nextDay, 300);  // 만료된 날과 같은 링 버퍼 칸
+
+		assertThat(scoreIn(LeaderboardWindow.MONTHLY, oldest)).isZero();
+		assertThat(scoreIn(LeaderboardWindow.MONTHLY, fresh)).isEqualTo(300);
+		assertThat(leaderboard.getTop(LeaderboardWindow.MONTHLY, 10))
+				.extracting(ScoreRanking.Entry::userId)
+				.containsExactly(fresh);
+	}
+
+	@Test
+	void liveBoardRestartsAfterMidnightAndSessionEndingNextDayDoesNotCarryOver() {
+		UUID user = UUID.randomUUID();
+		leaderboard.recordLiveSeconds(user, 900);
+		assertThat(scoreIn(LeaderboardWindow.TODAY, user)).isEqualTo(900);
+
+		clock.advance(Duration.ofSeconds(20));
+
+		assertThat(scoreIn(LeaderboardWindow.TODAY, user)).isZero();
+
+		// 어제 시작한 세션이 오늘 확정되면 어제 버킷으로만 들어간다
+		record(user, today, 1200);
+		assertThat(scoreIn(LeaderboardWindow.TODAY, user)).isZero();
+		assertThat(scoreIn(LeaderboardWindow.WEEKLY, user)).isEqualTo(1200);
+	}
+
+	@Test
+	void gapLongerThanMonthResetsEveryBoard() {
+		UUID user = UUID.randomUUID();
+		record(user, today, 1800);
+		leaderboard.recordLiveSeconds(user, 60);
+
+		clock.advance(Duration.ofDays(31));
+
+		for (LeaderboardWindow window : LeaderboardWindow.values()) {
+			assertThat(leaderboard.getTop(window, 10)).as(window.name()).isEmpty();
+		}
+	}
+
+	// === Private Methods ===
+
+	private void record(UUID userId, LocalDate date, int seconds) {
+		leaderboard.onStudySessionRecorded(new StudySessionRecordedEvent(userId, UUID.randomUUID(), date, seconds));
+	}
+
+	private long scoreIn(LeaderboardWindow window, UUID userId) {
+		return leaderboard.getTop(window, 100).stream()
+				.filter(entry -> entry.userId().equals(userId))
+				.mapToLong(ScoreRanking.Entry::score)
+				.findFirst()
+				.orElse(0);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZONE;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.starlogue.service.stats;
+
+import com.example.starlogue.domain.TagDailyStat;
+import com.example.starlogue.domain.enums.StopReason;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagStatsTest {
+
+	private static final LocalDate FROM = LocalDate.of(2026, 3, 1);
+	private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+	@Test
+	void bucketsAreSummedIntoPeriodStats() {
+		TagDailyStat first = bucket(FROM.plusDays(2), 3600, 2, 1, 1800, 1200, 300, 1, 1, 0, 2, 0);
+		TagDailyStat second = bucket(FROM.plusDays(5), 1800, 1, 1, 600, 600, 120, 0, 0, 1, 0, 3);
+
+		TagStats stats = TagStats.of(UUID.randomUUID(), FROM, TO, List.of(first, second));
+
+		assertThat(stats.studySeconds()).isEqualTo(5400);
+		assertThat(stats.sessionCount()).isEqualTo(3);
+		assertThat(stats.successCount()).isEqualTo(2);
+		assertThat(stats.successRate()).isEqualTo(2.0 / 3);
+		assertThat(stats.avgMaxFocusSeconds()).isEqualTo(800);  // (1800 + 600) / 3
+		assertThat(stats.bestFocusSeconds()).isEqualTo(1200);
+		assertThat(stats.pauseSeconds()).isEqualTo(420);
+		assertThat(stats.brokenPromiseCount()).isEqualTo(1);
+		assertThat(stats.stopReasonMix())
+				.containsEntry(StopReason.BATHROOM, 1)
+				.containsEntry(StopReason.INTERRUPTION, 1)
+				.containsEntry(StopReason.REST, 2)
+				.containsEntry(StopReason.DISTRACTION, 3);
+		assertThat(stats.daily())
+				.extracting(TagStats.Daily::date)
+				.containsExactly(FROM.plusDays(2), FROM.plusDays(5));
+	}
+
+	@Test
+	void emptyPeriodHasZeroRatesAndEveryStopReason() {
+		TagStats stats = TagStats.of(UUID.randomUUID(), FROM, TO, List.of());
+
+		assertThat(stats.sessionCount()).isZero();
+		assertThat(stats.successRate()).isZero();
+		assertThat(stats.avgMaxFocusSeconds()).isZero();
+		assertThat(stats.stopReasonMix()).hasSize(StopReason.values().length).containsValues(0);
+		assertThat(stats.daily()).isEmpty();
+	}
+
+	// === Private Methods ===
+
+	private TagDailyStat bucket(LocalDate date, int studySeconds, int sessions, int successes,
+								int focusSecondsSum, int bestFocusSeconds, int pauseSeconds, int brokenPromises,
+								int bathroom, int interruption, int rest, int distraction) {
+		TagDailyStat stat = BeanUtils.instantiateClass(TagDailyStat.class);
+		ReflectionTestUtils.setField(stat, "statDate", date);
+		ReflectionTestUtils.setField(stat, "studySeconds", studySeconds);
+		ReflectionTestUtils.setField(stat, "sessionCount", sessions);
+		ReflectionTestUtils.setField(stat, "successCount", successes);
+		ReflectionTestUtils.setField(stat, "focusSecondsSum", focusSecondsSum);
+		ReflectionTestUtils.setField(stat, "bestFocusSeconds", bestFocusSeconds);
+		ReflectionTestUtils.setField(stat, "pauseSeconds", pauseSeconds);
+		ReflectionTestUtils.setField(stat, "brokenPromiseCount", brokenPromises);
+		ReflectionTestUtils.setField(stat, "bathroomStopCount", bathroom);
+		ReflectionTestUtils.setField(stat, "interruptionStopCount", interruption);
+		ReflectionTestUtils.setField(stat, "restStopCount", rest);
+		ReflectionTestUtils.setField(stat, "distractionStopCount", distraction);
+		return stat;
+	}
+}
@@ -0,0 +1,65 @@
+package com.example.starlogue.service.timeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineBuilderTest {
+
+	@Test
+	void encodeDecodeRoundTrip() {
+		TimelineBuilder builder = new TimelineBuilder();
+		List<TimelinePoint> expected = new ArrayList<>();
+		Random random = new Random(7);
+		int t = 0;
+		int focus = 0;
+		int stamina = 100;
+
+		for (int i = 0; i < 1000; i++) {
+			t += 1 + random.nextInt(60);
+			if (random.nextInt(10) == 0) {
+				focus = 0;
+				stamina = Math.max(0, stamina - random.nextInt(20));
+			} else {
+				focus += 30;
+			}
+			TimelinePoint point = new TimelinePoint(t, focus, stamina);
+			builder.append(point);
+			expected.add(point);
+		}
+
+		TimelineBuilder decoded = TimelineBuilder.decode(builder.encode());
+
+		assertThat(decoded.pointCount()).isEqualTo(expected.size());
+		assertThat(decoded.points()).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	void steadyFocusHourStaysSmall() {
+		TimelineBuilder builder = new TimelineBuilder();
+		for (int t = 30; t <= 3600; t += 30) {
+			builder.append(new TimelinePoint(t, t, 100));
+		}
+
+		assertThat(builder.pointCount()).isEqualTo(120);
+		assertThat(builder.encode().length).isLessThan(16);
+	}
+
+	@Test
+	void lttbKeepsEndpointsAndSize() {
+		List<TimelinePoint> points = new ArrayList<>();
+		for (int t = 0; t < 5000; t++) {
+			points.add(new TimelinePoint(t, (t % 300) * 10, 100));
+		}
+
+		List<TimelinePoint> sampled = Lttb.downsample(points, 100);
+
+		assertThat(sampled).hasSize(100);
+		assertThat(sampled.get(0)).isEqualTo(points.get(0));
+		assertThat(sampled.get(99)).isEqualTo(points.get(4999));
+	}
+}
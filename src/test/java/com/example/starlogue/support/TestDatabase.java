@@ -0,0 +1,57 @@
+package com.example.starlogue.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * DB가 필요한 통합 테스트용 PostgreSQL
+ * - STARLOGUE_TEST_DB_URL 이 있으면 그 DB 사용 (로컬 DB / CI 서비스 컨테이너)
+ * - 없으면 Docker로 pgvector 컨테이너 하나를 띄워 테스트 클래스끼리 공유
+ * - 둘 다 없으면 건너뜀: @EnabledIf("com.example.starlogue.support.TestDatabase#isAvailable")
+ * - 여러 테스트가 같은 DB를 쓰므로 데이터는 항상 새 사용자 기준으로 만든다
+ */
+public final class TestDatabase {
+
+	private static final String URL = System.getenv("STARLOGUE_TEST_DB_URL");
+
+	private static PostgreSQLContainer<?> container;
+
+	private TestDatabase() {
+	}
+
+	public static boolean isAvailable() {
+		return URL != null || DockerClientFactory.instance().isDockerAvailable();
+	}
+
+	public static void register(DynamicPropertyRegistry registry) {
+		if (URL != null) {
+			registry.add("spring.datasource.url", () -> URL);
+			registry.add("spring.datasource.username", () -> env("STARLOGUE_TEST_DB_USERNAME", "postgres"));
+			registry.add("spring.datasource.password", () -> env("STARLOGUE_TEST_DB_PASSWORD", ""));
+		} else {
+			PostgreSQLContainer<?> postgres = container();
+			registry.add("spring.datasource.url", postgres::getJdbcUrl);
+			registry.add("spring.datasource.username", postgres::getUsername);
+			registry.add("spring.datasource.password", postgres::getPassword);
+		}
+		registry.add("spring.ai.openai.api-key", () -> "test");
+		registry.add("spring.ai.vectorstore.pgvector.initialize-schema", () -> "false");
+		registry.add("starlogue.cache.invalidation.enabled", () -> "false");
+	}
+
+	private static synchronized PostgreSQLContainer<?> container() {
+		if (container == null) {
+			container = new PostgreSQLContainer<>(
+					DockerImageName.parse("pgvector/pgvector:pg16").asCompatibleSubstituteFor("postgres"));
+			container.start();  // JVM 종료 시 Testcontainers가 정리
+		}
+		return container;
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value != null ? value : defaultValue;
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.starlogue.support.query;
+
+import org.springframework.util.function.ThrowingSupplier;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 엔드포인트별 SQL 예산 (src/test/resources/query-budgets.txt)
+ * - 한 줄: "<HTTP 메서드> <경로 패턴> <최대 SQL 수>" (예: GET /api/daily/{date}/detail 4)
+ * - 예산 초과 또는 같은 SELECT 반복(N+1 의심) 시 실행된 SQL 전체를 실패 메시지에 남긴다
+ */
+public final class QueryBudgets {
+
+	public static final String RESOURCE = "query-budgets.txt";
+
+	/**
+	 * 요청 한 번에 같은 SELECT가 이 횟수 이상 나오면 N+1로 본다
+	 */
+	public static final int REPEATED_SELECT_THRESHOLD = 3;
+
+	private static final Map<String, Integer> BUDGETS = load();
+
+	private QueryBudgets() {
+	}
+
+	/**
+	 * 예산 전체 (엔드포인트 → 최대 SQL 수)
+	 */
+	public static Map<String, Integer> all() {
+		return BUDGETS;
+	}
+
+	/**
+	 * 예산 파일에 적힌 한도로 검증
+	 */
+	public static <T> T assertWithinBudget(String endpoint, ThrowingSupplier<T> action) {
+		Integer budget = BUDGETS.get(endpoint);
+		if (budget == null) {
+			fail("%s에 예산이 없습니다: %s", RESOURCE, endpoint);
+		}
+		return assertMaxStatements(endpoint, budget, action);
+	}
+
+	/**
+	 * action 실행 중(현재 스레드) SQL 수가 max 이하이고 같은 SELECT가 반복되지 않는지 검증
+	 */
+	public static <T> T assertMaxStatements(String endpoint, int max, ThrowingSupplier<T> action) {
+		QueryCounter.start();
+		T result;
+		QueryLog log;
+		try {
+			result = action.get();
+		} finally {
+			log = QueryCounter.stop();
+		}
+
+		assertThat(log.count())
+				.as("%s - SQL %d개 (예산 %d)%s", endpoint, log.count(), max, log.describe())
+				.isLessThanOrEqualTo(max);
+		assertThat(log.repeatedSelects(REPEATED_SELECT_THRESHOLD))
+				.as("%s - 같은 SELECT가 %d번 이상 반복됨 (N+1 의심)%s",
+						endpoint, REPEATED_SELECT_THRESHOLD, log.describe())
+				.isEmpty();
+		return result;
+	}
+
+	// === Private Methods ===
+
+	private static Map<String, Integer> load() {
+		InputStream in = QueryBudgets.class.getClassLoader().getResourceAsStream(RESOURCE);
+		if (in == null) {
+			throw new IllegalStateException("클래스패스에 " + RESOURCE + " 파일이 없습니다.");
+		}
+
+		Map<String, Integer> budgets = new LinkedHashMap<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				Entry<String, Integer> entry = parse(line, lineNumber);
+				if (entry != null && budgets.put(entry.getKey(), entry.getValue()) != null) {
+					throw new IllegalStateException(RESOURCE + ":" + lineNumber + " 중복된 엔드포인트: " + entry.getKey());
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Collections.unmodifiableMap(budgets);
+	}
+
+	private static Entry<String, Integer> parse(String line, int lineNumber) {
+		int comment = line.indexOf('#');
+		String content = (comment >= 0 ? line.substring(0, comment) : line).strip();
+		if (content.isEmpty()) {
+			return null;
+		}
+
+		String[] parts = content.split("\\s+");
+		if (parts.length != 3) {
+			throw new IllegalStateException(RESOURCE + ":" + lineNumber + " 형식 오류 (<메서드> <경로> <최대 SQL 수>): " + line);
+		}
+		try {
+			return Map.entry(parts[0] + " " + parts[1], Integer.parseInt(parts[2]));
+		} catch (NumberFormatException e) {
+			throw new IllegalStateException(RESOURCE + ":" + lineNumber + " 최대 SQL 수가 숫자가 아닙니다: " + line);
+		}
+	}
+}
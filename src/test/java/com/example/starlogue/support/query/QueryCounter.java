@@ -0,0 +1,44 @@
+package com.example.starlogue.support.query;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스레드 단위 SQL 실행 기록 (datasource-proxy 리스너)
+ * - start() ~ stop() 사이에 현재 스레드에서 실행된 문장만 모은다 (MockMvc 요청은 테스트 스레드에서 실행)
+ * - 스케줄러 등 다른 스레드의 쿼리는 섞이지 않는다
+ * - 배치 실행(executeBatch)은 DB 왕복 1회로 센다
+ */
+public final class QueryCounter implements QueryExecutionListener {
+
+	private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+	public static void start() {
+		RECORDING.set(new ArrayList<>());
+	}
+
+	public static QueryLog stop() {
+		List<String> statements = RECORDING.get();
+		RECORDING.remove();
+		if (statements == null) {
+			throw new IllegalStateException("QueryCounter.start()가 호출되지 않았습니다.");
+		}
+		return new QueryLog(List.copyOf(statements));
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		List<String> statements = RECORDING.get();
+		if (statements != null && !queryInfoList.isEmpty()) {
+			statements.add(queryInfoList.get(0).getQuery());
+		}
+	}
+}
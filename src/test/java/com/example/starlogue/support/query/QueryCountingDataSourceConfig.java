@@ -0,0 +1,35 @@
+package com.example.starlogue.support.query;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 기본 DataSource(dataSource 빈)를 SQL 기록 프록시로 감싼다
+ * - JPA / JdbcTemplate / 네이티브 쿼리가 모두 이 빈을 거치므로 Hibernate 통계보다 빠짐없이 센다
+ * - 워크로드 풀 라우팅(@WorkloadPool)은 프록시 안쪽에서 그대로 동작
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountingDataSourceConfig {
+
+	private static final String DATA_SOURCE_BEAN = "dataSource";
+
+	@Bean
+	static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource) {
+					return ProxyDataSourceBuilder.create(dataSource)
+							.name("query-counter")
+							.listener(new QueryCounter())
+							.build();
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.starlogue.support.query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 한 번의 기록 구간에서 실행된 SQL 목록
+ */
+public record QueryLog(List<String> statements) {
+
+	public int count() {
+		return statements.size();
+	}
+
+	/**
+	 * 같은 SELECT가 threshold 번 이상 실행된 경우 (N+1 의심)
+	 */
+	public Map<String, Long> repeatedSelects(int threshold) {
+		return statements.stream()
+				.filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+				.collect(Collectors.groupingBy(Function.identity(), LinkedHashMap::new, Collectors.counting()))
+				.entrySet().stream()
+				.filter(entry -> entry.getValue() >= threshold)
+				.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
+						(a, b) -> a, LinkedHashMap::new));
+	}
+
+	/**
+	 * 실패 메시지용 (실행 순서대로 번호를 붙인다)
+	 */
+	public String describe() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < statements.size(); i++) {
+			sb.append('\n').append(i + 1).append(". ").append(statements.get(i).replaceAll("\\s+", " "));
+		}
+		return sb.toString();
+	}
+}